@@ -0,0 +1,55 @@
+package io.aurasage.document.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.dto.DocumentResponse;
+import io.aurasage.document.dto.DocumentUrlResponse;
+import io.aurasage.document.mapper.DocumentMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentMapperBenchmark {
+
+    private DocumentMapper documentMapper;
+    private AsDocument document;
+
+    @Setup
+    public void setUp() {
+        documentMapper = Mappers.getMapper(DocumentMapper.class);
+        document = AsDocument.builder()
+                .id("65a4f1c2e4b0a1b2c3d4e5f6")
+                .fileName("annual-report.pdf")
+                .filePath("user_987654321/65a4f1c2e4b0a1b2c3d4e5f6.pdf")
+                .fileHash("d41d8cd98f00b204e9800998ecf8427e")
+                .contentType("application/pdf")
+                .ownerId("user_987654321")
+                .sizeInBytes(2048576L)
+                .uploadDate(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .status(DocumentStatus.UPLOADED)
+                .build();
+    }
+
+    @Benchmark
+    public DocumentResponse toResponse() {
+        return documentMapper.toResponse(document);
+    }
+
+    @Benchmark
+    public DocumentUrlResponse toPresignUrlRequest() {
+        return documentMapper.toPresignUrlRequest(document, "http://localhost:9000/aurasage/object");
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.aurasage.document.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.dto.DocumentRequest;
+import io.aurasage.document.dto.DocumentUrlResponse;
+import io.aurasage.document.service.DocumentService;
+import io.aurasage.document.support.DocumentServiceContext;
+
+/**
+ * End-to-end reactive init-upload and download pipelines of {@code DocumentServiceImpl}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DocumentPipelineBenchmark {
+
+    private static final String OWNER_ID = "user_987654321";
+    private static final String DOCUMENT_ID = "65a4f1c2e4b0a1b2c3d4e5f6";
+
+    @Param({ "true", "false" })
+    private boolean downloadUrlCache;
+
+    private DocumentServiceContext context;
+    private DocumentService documentService;
+    private DocumentRequest documentRequest;
+
+    @Setup
+    public void setUp() {
+        context = new DocumentServiceContext(Map.of("aurasage.document.download-url-cache.enabled", downloadUrlCache));
+        documentService = context.documentService();
+
+        documentRequest = new DocumentRequest();
+        documentRequest.setFileName("annual-report.pdf");
+        documentRequest.setContentType("application/pdf");
+        documentRequest.setSizeInBytes(2048576L);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRepository() {
+        context.documentRepository().clear();
+        context.documentRepository().save(AsDocument.builder()
+                .id(DOCUMENT_ID)
+                .fileName("annual-report.pdf")
+                .filePath(OWNER_ID + "/" + DOCUMENT_ID + ".pdf")
+                .contentType("application/pdf")
+                .ownerId(OWNER_ID)
+                .sizeInBytes(2048576L)
+                .uploadDate(LocalDateTime.now())
+                .status(DocumentStatus.UPLOADED)
+                .build()).block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DocumentUrlResponse initUpload() {
+        return documentService.uploadDocument(documentRequest, OWNER_ID).block();
+    }
+
+    @Benchmark
+    public DocumentUrlResponse download() {
+        return documentService.downloadDocument(DOCUMENT_ID).block();
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.aurasage.document.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.aurasage.document.dto.DocumentResponse;
+
+/**
+ * Serialization of {@link DocumentResponse} lists as returned by {@code GET /documents}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DocumentSerializationBenchmark {
+
+    @Param({ "100", "1000" })
+    private int documents;
+
+    private ObjectWriter writer;
+    private List<DocumentResponse> responses;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        responses = IntStream.range(0, documents)
+                .mapToObj(i -> DocumentResponse.builder()
+                        .id("65a4f1c2e4b0a1b2c3d4" + String.format("%04x", i))
+                        .fileName("document-" + i + ".pdf")
+                        .sizeInBytes(2048576L + i)
+                        .mimeType("application/pdf")
+                        .uploadDate(Instant.parse("2024-01-15T10:30:00Z").plusSeconds(i))
+                        .fileHash("d41d8cd98f00b204e9800998ecf8427e")
+                        .status("UPLOADED")
+                        .ownerId("user_987654321")
+                        .filePath("user_987654321/document-" + i + ".pdf")
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.aurasage.document.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.dto.UploadProcessingResult;
+import io.aurasage.document.service.DocumentService;
+import io.aurasage.document.support.DocumentServiceContext;
+import io.aurasage.document.support.StorageEvents;
+import io.aurasage.events.dto.StorageEvent;
+
+/**
+ * Upload notification handling: record extraction plus the bulk completion write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UploadEventBenchmark {
+
+    private static final String OWNER_ID = "user_987654321";
+
+    @Param({ "1", "50" })
+    private int records;
+
+    private DocumentServiceContext context;
+    private DocumentService documentService;
+    private List<AsDocument> documents;
+    private List<StorageEvent> events;
+
+    @Setup
+    public void setUp() {
+        context = new DocumentServiceContext(Map.of());
+        documentService = context.documentService();
+        documents = new ArrayList<>();
+        List<String> objectKeys = new ArrayList<>();
+
+        for (int i = 0; i < records; i++) {
+            AsDocument document = AsDocument.builder()
+                    .id("doc-" + i)
+                    .fileName("document-" + i + ".pdf")
+                    .ownerId(OWNER_ID)
+                    .uploadDate(LocalDateTime.now())
+                    .status(DocumentStatus.PENDING_UPLOAD)
+                    .build();
+            context.documentRepository().save(document).block();
+            documents.add(document);
+            objectKeys.add(OWNER_ID + "/doc-" + i + ".pdf");
+        }
+        events = List.of(StorageEvents.uploaded(objectKeys));
+    }
+
+    @Setup(Level.Invocation)
+    public void resetStatus() {
+        documents.forEach(document -> document.setStatus(DocumentStatus.PENDING_UPLOAD));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UploadProcessingResult processUploadEvent() {
+        return documentService.processDocumentUploadedEvents(events).block();
+    }
+
+}
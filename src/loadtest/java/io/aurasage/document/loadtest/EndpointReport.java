@@ -0,0 +1,29 @@
+package io.aurasage.document.loadtest;
+
+import java.time.Duration;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency and throughput summary of one endpoint scenario. Latencies are measured from the
+ * intended send time to avoid coordinated omission.
+ */
+record EndpointReport(String endpoint, int targetRps, long requests, long errors, long dropped,
+        double throughput, double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+    static EndpointReport of(String endpoint, int targetRps, Duration elapsed, Histogram latencies, long errors,
+            long dropped) {
+        long requests = latencies.getTotalCount();
+        return new EndpointReport(endpoint, targetRps, requests, errors, dropped,
+                requests / (elapsed.toNanos() / 1_000_000_000.0),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.aurasage.document.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Open-model load generator: issues requests at a fixed rate regardless of how fast
+ * previous ones complete, up to a bound on in-flight requests.
+ */
+class LoadDriver {
+
+    private final int targetRps;
+    private final Duration duration;
+    private final int maxInFlight;
+
+    LoadDriver(int targetRps, Duration duration, int maxInFlight) {
+        this.targetRps = targetRps;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+    }
+
+    EndpointReport run(String endpoint, Supplier<Mono<?>> request) {
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        long periodNanos = 1_000_000_000L / targetRps;
+        long totalRequests = duration.toNanos() / periodNanos;
+        long startNanos = System.nanoTime();
+
+        Flux.interval(Duration.ofNanos(periodNanos))
+                .take(totalRequests)
+                .onBackpressureDrop(tick -> dropped.incrementAndGet())
+                .flatMap(tick -> {
+                    long intendedStart = startNanos + (tick + 1) * periodNanos;
+                    return request.get()
+                            .then()
+                            .doOnError(error -> errors.incrementAndGet())
+                            .onErrorComplete()
+                            .doFinally(signal -> latencies.recordValue(Math.max(0, Math.min(
+                                    System.nanoTime() - intendedStart, latencies.getHighestTrackableValue()))));
+                }, maxInFlight)
+                .blockLast();
+
+        return EndpointReport.of(endpoint, targetRps, Duration.ofNanos(System.nanoTime() - startNanos), latencies,
+                errors.get(), dropped.get());
+    }
+
+}
@@ -0,0 +1,150 @@
+package io.aurasage.document.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.DocumentServiceApplication;
+import io.aurasage.document.dto.DocumentRequest;
+import io.aurasage.document.support.InMemoryDocumentRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Self-contained load test: boots the service on a random port with in-memory persistence
+ * and event bus, a local stub storage service, and drives the document endpoints at a
+ * target rate.
+ *
+ * <p>Settings are read from system properties: {@code loadtest.rps}, {@code loadtest.duration},
+ * {@code loadtest.max-in-flight}, {@code loadtest.storage-latency}, {@code loadtest.documents},
+ * {@code loadtest.endpoints} and {@code loadtest.report}.</p>
+ */
+public final class LoadTestApplication {
+
+    private static final String OWNER_ID = "anonymous";
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int rps = Integer.getInteger("loadtest.rps", 500);
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 1024);
+        Duration storageLatency = Duration.parse(System.getProperty("loadtest.storage-latency", "PT0.005S"));
+        int seededDocuments = Integer.getInteger("loadtest.documents", 1000);
+        List<String> endpoints = Arrays.asList(System.getProperty("loadtest.endpoints",
+                "init-upload,get-by-id,download,page").split(","));
+        Path report = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/results.json"));
+
+        try (StubStorageServer storage = new StubStorageServer(storageLatency);
+                ConfigurableApplicationContext context = new SpringApplicationBuilder(DocumentServiceApplication.class,
+                        LoadTestConfiguration.class)
+                        .profiles("loadtest")
+                        .properties(Map.of("aurasage.storage-service.url", storage.baseUrl()))
+                        .run(args)) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<String> documentIds = seed(context.getBean(InMemoryDocumentRepository.class), seededDocuments);
+            WebClient client = WebClient.builder().baseUrl("http://127.0.0.1:" + port + "/documents").build();
+            LoadDriver driver = new LoadDriver(rps, duration, maxInFlight);
+
+            List<EndpointReport> reports = new ArrayList<>();
+            for (String endpoint : endpoints) {
+                reports.add(driver.run(endpoint, scenario(endpoint.trim(), client, documentIds)));
+            }
+
+            print(reports);
+            write(report, reports);
+        }
+    }
+
+    private static Supplier<Mono<?>> scenario(String endpoint, WebClient client,
+            List<String> documentIds) {
+        return switch (endpoint) {
+            case "init-upload" -> () -> client.post().uri("/init-upload")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(uploadRequest())
+                    .retrieve()
+                    .toBodilessEntity();
+            case "get-by-id" -> () -> client.get().uri("/{id}", randomId(documentIds))
+                    .retrieve()
+                    .toBodilessEntity();
+            case "download" -> () -> client.get().uri("/download/{id}", randomId(documentIds))
+                    .retrieve()
+                    .toBodilessEntity();
+            case "page" -> () -> client.get().uri("/page?size=50")
+                    .retrieve()
+                    .toBodilessEntity();
+            default -> throw new IllegalArgumentException("Unknown load test endpoint: " + endpoint);
+        };
+    }
+
+    private static List<String> seed(InMemoryDocumentRepository repository, int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = UUID.randomUUID().toString();
+            repository.save(AsDocument.builder()
+                    .id(id)
+                    .fileName("document-" + i + ".pdf")
+                    .filePath(OWNER_ID + "/" + id + ".pdf")
+                    .contentType("application/pdf")
+                    .ownerId(OWNER_ID)
+                    .sizeInBytes(2048576L)
+                    .uploadDate(LocalDateTime.now().minusSeconds(i))
+                    .status(DocumentStatus.UPLOADED)
+                    .build()).block();
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static DocumentRequest uploadRequest() {
+        DocumentRequest request = new DocumentRequest();
+        request.setFileName("load-test.pdf");
+        request.setContentType("application/pdf");
+        request.setSizeInBytes(2048576L);
+        return request;
+    }
+
+    private static String randomId(List<String> documentIds) {
+        return documentIds.get(ThreadLocalRandom.current().nextInt(documentIds.size()));
+    }
+
+    private static void print(List<EndpointReport> reports) {
+        System.out.printf("%n%-12s %8s %9s %7s %8s %10s %9s %9s %9s %9s%n", "endpoint", "rps", "requests",
+                "errors", "dropped", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (EndpointReport r : reports) {
+            System.out.printf("%-12s %8d %9d %7d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", r.endpoint(), r.targetRps(),
+                    r.requests(), r.errors(), r.dropped(), r.throughput(), r.p50Millis(), r.p99Millis(),
+                    r.p999Millis(), r.maxMillis());
+        }
+    }
+
+    private static void write(Path report, List<EndpointReport> reports) throws IOException {
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), reports);
+        System.out.println("Load test report written to " + report.toAbsolutePath());
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.aurasage.document.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import io.aurasage.document.support.InMemoryDocumentRepository;
+import io.aurasage.document.support.InMemoryEventBus;
+
+/**
+ * Replaces the persistence adapter and the event bus with in-memory stand-ins.
+ */
+@Configuration(proxyBeanMethods = false)
+class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    InMemoryDocumentRepository inMemoryDocumentRepository() {
+        return new InMemoryDocumentRepository();
+    }
+
+    @Bean
+    @Primary
+    InMemoryEventBus inMemoryEventBus() {
+        return new InMemoryEventBus();
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.aurasage.document.loadtest;
+
+import java.time.Duration;
+
+import io.aurasage.document.support.InMemoryStorageClient;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Local stand-in for the storage service HTTP API with a configurable response latency,
+ * so the real WebClient storage client is exercised end to end.
+ */
+class StubStorageServer implements AutoCloseable {
+
+    private final DisposableServer server;
+
+    StubStorageServer(Duration latency) {
+        InMemoryStorageClient urls = new InMemoryStorageClient(latency);
+
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .post("/storage/upload-url", (request, response) -> request.receive().aggregate().asString()
+                                .defaultIfEmpty("")
+                                .then(urls.generateDownloadUrl("upload"))
+                                .flatMap(url -> response.sendString(Mono.just(url)).then()))
+                        .get("/storage/download-url", (request, response) -> urls.generateDownloadUrl("download")
+                                .flatMap(url -> response.sendString(Mono.just(url)).then()))
+                        .delete("/storage", (request, response) -> urls.deleteFile("object")
+                                .then(response.send()))
+                        .head("/storage", (request, response) -> urls.exists("object")
+                                .then(response.status(HttpResponseStatus.NOT_FOUND).send())))
+                .bindNow();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+}
@@ -0,0 +1,210 @@
+package io.aurasage.document.admission;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.aurasage.document.dto.DocumentRequest;
+import io.aurasage.document.repository.DocumentStats;
+import io.aurasage.document.repository.DocumentTags;
+import io.aurasage.document.service.DocumentStatsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Admission control for upload initialization, applied before anything is written.
+ *
+ * <p>Requests are validated for file name, size, content type and tags without any I/O. Owner
+ * quotas are checked against usage counters cached per node for a short time; admitted
+ * uploads are added to the cached usage right away so a burst cannot overshoot the quota
+ * by more than what other nodes admit within one cache TTL. Reservations of uploads that
+ * fail to initialize are released again. A quota of 0 is unlimited, which is the default.</p>
+ */
+@Slf4j
+@Component
+public class UploadAdmissionPolicy {
+
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    private final DocumentStatsService documentStatsService;
+    private final boolean enabled;
+    private final long maxFileSize;
+    private final long maxMultipartFileSize;
+    private final Set<String> allowedContentTypes;
+    private final int maxTags;
+    private final int maxTagLength;
+    private final long maxDocuments;
+    private final long maxBytes;
+    private final Cache<String, DocumentStats> usage;
+
+    public UploadAdmissionPolicy(DocumentStatsService documentStatsService, MeterRegistry meterRegistry,
+            @Value("${aurasage.document.admission.enabled:true}") boolean enabled,
+            @Value("${aurasage.document.admission.max-file-size:100MB}") DataSize maxFileSize,
+            @Value("${aurasage.document.admission.max-multipart-file-size:50GB}") DataSize maxMultipartFileSize,
+            @Value("${aurasage.document.admission.allowed-content-types:}") List<String> allowedContentTypes,
+            @Value("${aurasage.document.admission.max-tags:20}") int maxTags,
+            @Value("${aurasage.document.admission.max-tag-length:64}") int maxTagLength,
+            @Value("${aurasage.document.admission.quota.max-documents:0}") long maxDocuments,
+            @Value("${aurasage.document.admission.quota.max-bytes:0}") DataSize maxBytes,
+            @Value("${aurasage.document.admission.usage-cache.ttl:30s}") Duration usageTtl,
+            @Value("${aurasage.document.admission.usage-cache.max-size:10000}") long usageMaxSize) {
+        this.documentStatsService = documentStatsService;
+        this.enabled = enabled;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxMultipartFileSize = maxMultipartFileSize.toBytes();
+        this.allowedContentTypes = allowedContentTypes.stream()
+                .filter(contentType -> !contentType.isBlank())
+                .map(DocumentStats::contentTypeKey)
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxTags = maxTags;
+        this.maxTagLength = maxTagLength;
+        this.maxDocuments = maxDocuments;
+        this.maxBytes = maxBytes.toBytes();
+        this.usage = Caffeine.newBuilder()
+                .maximumSize(usageMaxSize)
+                .expireAfterWrite(usageTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usage, "document.admission.usage");
+    }
+
+    /**
+     * Checks a single request without any I/O.
+     *
+     * @return the rejection, or empty when the request is acceptable
+     */
+    public Optional<ResponseStatusException> validate(DocumentRequest request) {
+        return validate(request, false);
+    }
+
+    /**
+     * Checks a single request without any I/O, against the larger size limit of multipart
+     * uploads when {@code multipart} is set.
+     *
+     * @return the rejection, or empty when the request is acceptable
+     */
+    public Optional<ResponseStatusException> validate(DocumentRequest request, boolean multipart) {
+        long sizeLimit = multipart ? maxMultipartFileSize : maxFileSize;
+        if (request == null || request.getFileName() == null || request.getFileName().isBlank()) {
+            return reject(HttpStatus.BAD_REQUEST, "File name is required");
+        }
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (request.getFileName().length() > MAX_FILE_NAME_LENGTH) {
+            return reject(HttpStatus.BAD_REQUEST, "File name must be at most " + MAX_FILE_NAME_LENGTH + " characters");
+        }
+        if (request.getSizeInBytes() == null || request.getSizeInBytes() < 1) {
+            return reject(HttpStatus.BAD_REQUEST, "File size must be a positive number of bytes");
+        }
+        if (request.getSizeInBytes() > sizeLimit) {
+            return reject(HttpStatus.PAYLOAD_TOO_LARGE, "File size exceeds the maximum of " + sizeLimit + " bytes");
+        }
+        if (!allowedContentTypes.isEmpty()
+                && !allowedContentTypes.contains(DocumentStats.contentTypeKey(request.getContentType()))) {
+            return reject(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    "Content type " + request.getContentType() + " is not allowed");
+        }
+        Set<String> tags = DocumentTags.normalize(request.getTags());
+        if (tags.size() > maxTags) {
+            return reject(HttpStatus.BAD_REQUEST, "At most " + maxTags + " tags are allowed");
+        }
+        if (tags.stream().anyMatch(tag -> tag.length() > maxTagLength)) {
+            return reject(HttpStatus.BAD_REQUEST, "Tags must be at most " + maxTagLength + " characters");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reserves quota for the requests in order, stopping at the first one that does not fit.
+     *
+     * @return number of requests admitted from the start of the list
+     */
+    public Mono<Integer> reserve(String userId, List<DocumentRequest> requests) {
+        if (!quotaEnforced() || requests.isEmpty()) {
+            return Mono.just(requests.size());
+        }
+
+        return currentUsage(userId)
+                .map(loaded -> {
+                    int[] admitted = {0};
+                    // decide and reserve atomically so concurrent requests of the same owner see each other
+                    usage.asMap().compute(userId, (key, cached) -> {
+                        DocumentStats current = cached != null ? cached : loaded;
+                        long documents = current.documentCount();
+                        long bytes = current.totalBytes();
+                        for (DocumentRequest request : requests) {
+                            long size = request.getSizeInBytes() == null ? 0 : request.getSizeInBytes();
+                            if ((maxDocuments > 0 && documents + 1 > maxDocuments)
+                                    || (maxBytes > 0 && bytes + size > maxBytes)) {
+                                break;
+                            }
+                            documents++;
+                            bytes += size;
+                            admitted[0]++;
+                        }
+                        return current.plus(new DocumentStats(documents - current.documentCount(),
+                                bytes - current.totalBytes(), Map.of(), Map.of()));
+                    });
+
+                    if (admitted[0] < requests.size()) {
+                        log.warn("Quota reached for user {}: admitted {} of {} uploads", userId, admitted[0],
+                                requests.size());
+                    }
+                    return admitted[0];
+                });
+    }
+
+    /**
+     * Gives back quota reserved for requests whose uploads could not be initialized.
+     */
+    public void release(String userId, List<DocumentRequest> requests) {
+        if (!quotaEnforced() || requests.isEmpty()) {
+            return;
+        }
+
+        long bytes = requests.stream()
+                .mapToLong(request -> request.getSizeInBytes() == null ? 0 : request.getSizeInBytes())
+                .sum();
+        DocumentStats released = new DocumentStats(-requests.size(), -bytes, Map.of(), Map.of());
+        // once the cached usage expired, the next load only counts documents that were saved
+        usage.asMap().computeIfPresent(userId, (key, cached) -> cached.plus(released));
+    }
+
+    public ResponseStatusException quotaExceeded() {
+        return new ResponseStatusException(HttpStatus.FORBIDDEN, "Document quota exceeded");
+    }
+
+    private boolean quotaEnforced() {
+        return enabled && (maxDocuments > 0 || maxBytes > 0);
+    }
+
+    private Mono<DocumentStats> currentUsage(String userId) {
+        DocumentStats cached = usage.getIfPresent(userId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return documentStatsService.getUsage(userId)
+                .defaultIfEmpty(DocumentStats.EMPTY);
+    }
+
+    private static Optional<ResponseStatusException> reject(HttpStatus status, String reason) {
+        return Optional.of(new ResponseStatusException(status, reason));
+    }
+
+}
@@ -2,7 +2,9 @@ package io.aurasage.document.api;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,11 +12,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import io.aurasage.core.model.ErrorResponse;
+import io.aurasage.document.dto.BulkDeleteProgress;
+import io.aurasage.document.dto.CompletedPart;
+import io.aurasage.document.dto.DocumentBatchUploadResponse;
+import io.aurasage.document.dto.DocumentPageResponse;
 import io.aurasage.document.dto.DocumentRequest;
 import io.aurasage.document.dto.DocumentResponse;
+import io.aurasage.document.dto.DocumentStatsResponse;
+import io.aurasage.document.dto.DocumentStatusEvent;
 import io.aurasage.document.dto.DocumentUrlResponse;
+import io.aurasage.document.dto.MultipartUploadResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,6 +35,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 
@@ -38,6 +49,12 @@ public interface DocumentApi {
         @ApiResponse(responseCode = "200", description = "Upload initialization successful",
             content = @Content(schema = @Schema(implementation = DocumentUrlResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Document quota exceeded",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "413", description = "File size exceeds the maximum",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "415", description = "Content type not allowed",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/init-upload")
@@ -46,13 +63,141 @@ public interface DocumentApi {
             @RequestBody @NotNull DocumentRequest documentRequest,
             @Parameter(hidden = true) Authentication authentication);
 
-    @Operation(summary = "Get user documents", description = "Retrieves all documents for the authenticated user")
+    @Operation(summary = "Initialize batch document upload", description = "Creates document entries for multiple files and returns an upload URL or error for each of them")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results",
+            content = @Content(schema = @Schema(implementation = DocumentBatchUploadResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/init-upload/batch")
+    Mono<ResponseEntity<DocumentBatchUploadResponse>> initBatchUpload(
+            @Parameter(description = "Upload requests, one per file", required = true)
+            @RequestBody @NotNull List<DocumentRequest> documentRequests,
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Initialize multipart document upload", description = "Creates a new document entry and returns one presigned URL per part; parts can be uploaded in parallel")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Multipart upload initialized",
+            content = @Content(schema = @Schema(implementation = MultipartUploadResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Document quota exceeded",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "413", description = "File size exceeds the maximum",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "415", description = "Content type not allowed",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/init-upload/multipart")
+    Mono<ResponseEntity<MultipartUploadResponse>> initMultipartUpload(
+            @Parameter(description = "Document upload request containing filename, content type, and size information", required = true)
+            @RequestBody @NotNull DocumentRequest documentRequest,
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Resume multipart document upload", description = "Returns fresh presigned URLs for every part of an upload in progress, e.g. once the first ones expired; parts uploaded again replace the earlier upload")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Part URLs presigned",
+            content = @Content(schema = @Schema(implementation = MultipartUploadResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Multipart upload not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "Upload is already being completed or aborted",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{id}/multipart")
+    Mono<ResponseEntity<MultipartUploadResponse>> resumeMultipartUpload(
+            @Parameter(description = "Unique identifier of the document being uploaded", required = true)
+            @PathVariable(name = "id") @NotBlank String id,
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Complete multipart document upload", description = "Assembles the uploaded parts; the document becomes UPLOADED once storage reports the object")
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Parts assembled"),
+        @ApiResponse(responseCode = "400", description = "Missing, duplicate or unknown parts",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Multipart upload not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "Upload is already being completed or aborted",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{id}/multipart/complete")
+    Mono<ResponseEntity<Void>> completeMultipartUpload(
+            @Parameter(description = "Unique identifier of the document being uploaded", required = true)
+            @PathVariable(name = "id") @NotBlank String id,
+            @Parameter(description = "Part number and ETag of every uploaded part", required = true)
+            @RequestBody @NotNull List<CompletedPart> parts,
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Abort multipart document upload", description = "Discards the uploaded parts and deletes the pending document")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Upload aborted"),
+        @ApiResponse(responseCode = "404", description = "Multipart upload not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "Upload is already being completed or aborted",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @DeleteMapping("/{id}/multipart")
+    Mono<ResponseEntity<Void>> abortMultipartUpload(
+            @Parameter(description = "Unique identifier of the document being uploaded", required = true)
+            @PathVariable(name = "id") @NotBlank String id,
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Get user documents", description = "Retrieves all documents for the authenticated user, optionally only those carrying the given tags")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Documents retrieved successfully",
-            content = @Content(schema = @Schema(implementation = DocumentResponse.class)))
+            content = @Content(schema = @Schema(implementation = DocumentResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid tag query",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping
     Mono<ResponseEntity<List<?>>> getDocuments(
+            @Parameter(description = "Tags to filter by; repeat the parameter for several tags", example = "finance")
+            @RequestParam(name = "tag", required = false) List<String> tags,
+            @Parameter(description = "Whether documents must carry all or any of the tags", example = "all")
+            @RequestParam(name = "match", defaultValue = "all") String match,
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Get user documents page", description = "Retrieves one page of the authenticated user's documents, newest first, using an opaque continuation cursor")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page retrieved successfully",
+            content = @Content(schema = @Schema(implementation = DocumentPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid page size or cursor",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/page")
+    Mono<ResponseEntity<DocumentPageResponse>> getDocumentsPage(
+            @Parameter(description = "Maximum number of documents in the page", example = "50")
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @Parameter(description = "Continuation token returned as nextCursor by the previous page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Stream user documents", description = "Streams all documents of the authenticated user as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Documents streamed successfully",
+        content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = DocumentResponse.class)))
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<DocumentResponse> streamDocuments(
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Get user document statistics", description = "Returns document count, total size and counts per status and content type for the authenticated user")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+        content = @Content(schema = @Schema(implementation = DocumentStatsResponse.class)))
+    @GetMapping("/stats")
+    Mono<ResponseEntity<DocumentStatsResponse>> getDocumentStats(
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Stream document status changes", description = "Pushes status changes of the authenticated user's documents as server-sent events. A heartbeat comment is sent while there are no changes. Slow consumers are disconnected and should reconnect")
+    @ApiResponse(responseCode = "200", description = "Status event stream",
+        content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = DocumentStatusEvent.class)))
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    Flux<ServerSentEvent<DocumentStatusEvent>> streamStatusEvents(
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Stream document status changes as JSON", description = "Pushes status changes of the authenticated user's documents as newline-delimited JSON. Slow consumers are disconnected and should reconnect")
+    @ApiResponse(responseCode = "200", description = "Status event stream",
+        content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = DocumentStatusEvent.class)))
+    @GetMapping(value = "/events", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<DocumentStatusEvent> streamStatusEventsAsJson(
             @Parameter(hidden = true) Authentication authentication);
 
     @Operation(summary = "Get document by ID", description = "Retrieves a specific document by its unique identifier")
@@ -78,6 +223,25 @@ public interface DocumentApi {
             @Parameter(description = "Unique identifier of the document to delete", required = true, example = "doc_12345678-1234-1234-1234-123456789abc")
             @PathVariable @NotBlank String id);
 
+    @Operation(summary = "Delete documents in bulk", description = "Deletes the listed documents of the authenticated user and streams cumulative progress as newline-delimited JSON")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Deletion progress stream",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BulkDeleteProgress.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/delete/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<BulkDeleteProgress> deleteDocuments(
+            @Parameter(description = "Identifiers of the documents to delete", required = true)
+            @RequestBody @NotNull List<String> documentIds,
+            @Parameter(hidden = true) Authentication authentication);
+
+    @Operation(summary = "Delete all user documents", description = "Deletes every document of the authenticated user and streams cumulative progress as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Deletion progress stream",
+        content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BulkDeleteProgress.class)))
+    @DeleteMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<BulkDeleteProgress> deleteAllDocuments(
+            @Parameter(hidden = true) Authentication authentication);
 
     @Operation(summary = "Download document", description = "Generates a secure download link for the specified document")
     @ApiResponses({
@@ -0,0 +1,177 @@
+package io.aurasage.document.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.document.event.CacheInvalidationPublisher;
+import io.aurasage.document.event.DocumentCacheInvalidatedEvent;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-node read-through cache of document metadata keyed by document id.
+ *
+ * <p>Misses are cached as well, with a shorter TTL. Cached documents are shared between
+ * readers and must not be modified. {@link #evict} drops entries locally and broadcasts the
+ * invalidation so other replicas drop theirs; the broadcast is sent off the calling thread and
+ * the TTL bounds staleness if it is lost.</p>
+ *
+ * <p>Concurrent misses for one key share a single load, and the cache decision is made once
+ * for that shared load: a load that overlaps an invalidation of its key is returned to every
+ * caller but not cached, also for callers that joined it after the invalidation. Invalidations
+ * are remembered per key for one TTL, which is also the longest a stale value could survive.</p>
+ */
+@Slf4j
+@Component
+public class DocumentMetadataCache {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final BlockingCalls blockingCalls;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Cache<String, Optional<AsDocument>> cache;
+    private final SingleFlight<String, Optional<AsDocument>> loads;
+
+    // sequence number of the latest invalidation of each recently invalidated key
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<String, Long> invalidations;
+
+    public DocumentMetadataCache(ObjectProvider<CacheInvalidationPublisher> invalidationPublisher,
+            BlockingCalls blockingCalls, MeterRegistry meterRegistry,
+            @Value("${aurasage.document.metadata-cache.enabled:true}") boolean enabled,
+            @Value("${aurasage.document.metadata-cache.max-size:50000}") long maxSize,
+            @Value("${aurasage.document.metadata-cache.ttl:30s}") Duration ttl,
+            @Value("${aurasage.document.metadata-cache.negative-ttl:5s}") Duration negativeTtl,
+            @Value("${aurasage.document.single-flight.enabled:true}") boolean singleFlightEnabled) {
+        this.invalidationPublisher = invalidationPublisher.getIfAvailable();
+        this.blockingCalls = blockingCalls;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new MetadataExpiry())
+                .recordStats()
+                .build();
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.loads = new SingleFlight<>("find-by-id", singleFlightEnabled, meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "document.metadata");
+    }
+
+    /**
+     * Returns the cached document or loads it, sharing the load with concurrent misses.
+     */
+    public Mono<AsDocument> get(String documentId, Function<String, Mono<AsDocument>> loader) {
+        if (!enabled) {
+            return loads.execute(documentId, id -> loader.apply(id).map(Optional::of))
+                    .flatMap(Mono::justOrEmpty);
+        }
+
+        Optional<AsDocument> cached = cache.getIfPresent(documentId);
+        if (cached != null) {
+            return Mono.justOrEmpty(cached);
+        }
+
+        return loads.execute(documentId, id -> {
+                    // taken when the shared load starts, not when a caller joins it
+                    long loadSequence = sequence.get();
+                    return loader.apply(id)
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .doOnNext(loaded -> {
+                                Long invalidated = invalidations.getIfPresent(id);
+                                if (invalidated == null || invalidated <= loadSequence) {
+                                    cache.put(id, loaded);
+                                }
+                            });
+                })
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    public void evict(String documentId) {
+        if (documentId != null) {
+            evict(List.of(documentId));
+        }
+    }
+
+    /**
+     * Drops the given documents on this node and broadcasts the invalidation to other replicas.
+     */
+    public void evict(Collection<String> documentIds) {
+        if (!enabled || documentIds.isEmpty()) {
+            return;
+        }
+
+        invalidate(documentIds);
+
+        if (invalidationPublisher != null) {
+            // the broker send blocks, and evictions happen on the event loop
+            DocumentCacheInvalidatedEvent event = new DocumentCacheInvalidatedEvent(instanceId,
+                    List.copyOf(documentIds));
+            blockingCalls.run(() -> invalidationPublisher.publish(event))
+                    .subscribe(null, error -> log.warn("Failed to broadcast cache invalidation for {} documents: {}",
+                            event.documentIds().size(), error.getMessage()));
+        }
+    }
+
+    /**
+     * Drops the given documents on this node only.
+     */
+    public void invalidate(Collection<String> documentIds) {
+        long invalidation = sequence.incrementAndGet();
+        documentIds.forEach(documentId -> invalidations.put(documentId, invalidation));
+        cache.invalidateAll(documentIds);
+    }
+
+    public void onInvalidated(DocumentCacheInvalidatedEvent event) {
+        if (!enabled || instanceId.equals(event.originId()) || event.documentIds() == null) {
+            return;
+        }
+        invalidate(event.documentIds());
+    }
+
+    private class MetadataExpiry implements Expiry<String, Optional<AsDocument>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<AsDocument> value, long currentTime) {
+            return (value.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<AsDocument> value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<AsDocument> value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.aurasage.document.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.aurasage.document.repository.DocumentTagStore;
+import io.aurasage.document.repository.DocumentTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Optional per-node inverted index (tag to document ids) for owners queried by tag.
+ *
+ * <p>An owner's index is built from the {@link DocumentTagStore} on its first tag query and
+ * answers further queries without I/O. Indexes are bounded by their total number of postings,
+ * dropped locally whenever the owner's tags change on this node, and expire after the TTL,
+ * which bounds how long tags written on other nodes can be missing. Disabled, every query
+ * goes to the store.</p>
+ */
+@Component
+public class DocumentTagIndex {
+
+    private final DocumentTagStore documentTagStore;
+    private final boolean enabled;
+    private final Cache<String, Map<String, Set<String>>> indexes;
+
+    // sequence number of the latest invalidation of each recently invalidated owner, so only
+    // builds that raced with an invalidation of their own owner are not cached
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<String, Long> invalidations;
+
+    public DocumentTagIndex(DocumentTagStore documentTagStore, MeterRegistry meterRegistry,
+            @Value("${aurasage.document.tag-index.enabled:false}") boolean enabled,
+            @Value("${aurasage.document.tag-index.max-postings:2000000}") long maxPostings,
+            @Value("${aurasage.document.tag-index.ttl:60s}") Duration ttl,
+            @Value("${aurasage.document.tag-index.max-invalidations:100000}") long maxInvalidations) {
+        this.documentTagStore = documentTagStore;
+        this.enabled = enabled;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxPostings)
+                .<String, Map<String, Set<String>>>weigher((ownerId, index) ->
+                        index.values().stream().mapToInt(Set::size).sum())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // a build older than the TTL is never in flight, so older invalidations need no record
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(maxInvalidations)
+                .expireAfterWrite(ttl)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "document.tag-index");
+    }
+
+    /**
+     * Returns the ids of the owner's documents carrying all ({@code matchAll}) or any of the
+     * given normalized tags.
+     */
+    public Flux<String> findDocumentIds(String ownerId, Set<String> tags, boolean matchAll) {
+        if (!enabled) {
+            return documentTagStore.findDocumentIds(ownerId, tags, matchAll);
+        }
+
+        return index(ownerId).flatMapIterable(index -> {
+            List<Set<String>> postings = tags.stream()
+                    .map(tag -> index.getOrDefault(tag, Set.of()))
+                    .toList();
+            if (!matchAll) {
+                Set<String> union = new HashSet<>();
+                postings.forEach(union::addAll);
+                return union;
+            }
+
+            // intersect starting from the rarest tag
+            List<Set<String>> bySize = postings.stream().sorted(Comparator.comparingInt(Set::size)).toList();
+            Set<String> intersection = new HashSet<>(bySize.get(0));
+            bySize.subList(1, bySize.size()).forEach(intersection::retainAll);
+            return intersection;
+        });
+    }
+
+    public void invalidate(String ownerId) {
+        if (!enabled) {
+            return;
+        }
+        invalidations.put(ownerId, sequence.incrementAndGet());
+        indexes.invalidate(ownerId);
+    }
+
+    private Mono<Map<String, Set<String>>> index(String ownerId) {
+        return Mono.defer(() -> {
+            Map<String, Set<String>> cached = indexes.getIfPresent(ownerId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            long loadSequence = sequence.get();
+            return documentTagStore.findAllByOwnerId(ownerId)
+                    .collect(HashMap<String, Set<String>>::new, DocumentTagIndex::addPostings)
+                    .doOnNext(index -> {
+                        Long invalidated = invalidations.getIfPresent(ownerId);
+                        if (invalidated == null || invalidated <= loadSequence) {
+                            indexes.put(ownerId, index);
+                        }
+                    });
+        });
+    }
+
+    private static void addPostings(Map<String, Set<String>> index, DocumentTags documentTags) {
+        documentTags.tags().stream()
+                .filter(Objects::nonNull)
+                .forEach(tag -> index.computeIfAbsent(tag, key -> new HashSet<>()).add(documentTags.documentId()));
+    }
+
+}
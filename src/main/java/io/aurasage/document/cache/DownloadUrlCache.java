@@ -0,0 +1,122 @@
+package io.aurasage.document.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bounded cache of presigned download URLs keyed by storage object key.
+ *
+ * <p>Each entry expires a safety margin before the presigned URL itself does. The URL
+ * lifetime is read from the SigV4 {@code X-Amz-Date}/{@code X-Amz-Expires} query
+ * parameters when present, otherwise the configured URL TTL is assumed.</p>
+ */
+@Slf4j
+@Component
+public class DownloadUrlCache {
+
+    private static final DateTimeFormatter AMZ_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final boolean enabled;
+    private final Duration urlTtl;
+    private final Duration safetyMargin;
+    private final Cache<String, CachedUrl> cache;
+
+    public DownloadUrlCache(MeterRegistry meterRegistry,
+            @Value("${aurasage.document.download-url-cache.enabled:true}") boolean enabled,
+            @Value("${aurasage.document.download-url-cache.max-size:10000}") long maxSize,
+            @Value("${aurasage.document.download-url-cache.url-ttl:15m}") Duration urlTtl,
+            @Value("${aurasage.document.download-url-cache.safety-margin:1m}") Duration safetyMargin) {
+        this.enabled = enabled;
+        this.urlTtl = urlTtl;
+        this.safetyMargin = safetyMargin;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UrlExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "document.download-url");
+    }
+
+    public Mono<String> get(String filePath, Function<String, Mono<String>> loader) {
+        if (!enabled) {
+            return loader.apply(filePath);
+        }
+
+        CachedUrl cached = cache.getIfPresent(filePath);
+        if (cached != null) {
+            return Mono.just(cached.url());
+        }
+
+        return loader.apply(filePath)
+                .doOnNext(url -> put(filePath, url));
+    }
+
+    public void invalidate(String filePath) {
+        if (filePath != null) {
+            cache.invalidate(filePath);
+        }
+    }
+
+    private void put(String filePath, String url) {
+        Instant expiresAt = resolveExpiry(url);
+        if (Duration.between(Instant.now(), expiresAt).compareTo(safetyMargin) > 0) {
+            cache.put(filePath, new CachedUrl(url, expiresAt));
+        }
+    }
+
+    private Instant resolveExpiry(String url) {
+        try {
+            var params = UriComponentsBuilder.fromUriString(url).build().getQueryParams();
+            String amzDate = params.getFirst("X-Amz-Date");
+            String amzExpires = params.getFirst("X-Amz-Expires");
+            if (amzDate != null && amzExpires != null) {
+                return Instant.from(AMZ_DATE_FORMAT.parse(amzDate)).plusSeconds(Long.parseLong(amzExpires));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.debug("Unable to read expiry from presigned URL, using configured TTL: {}", e.getMessage());
+        }
+        return Instant.now().plus(urlTtl);
+    }
+
+    private record CachedUrl(String url, Instant expiresAt) {
+    }
+
+    private class UrlExpiry implements Expiry<String, CachedUrl> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedUrl value, long currentTime) {
+            long nanos = Duration.between(Instant.now(), value.expiresAt().minus(safetyMargin)).toNanos();
+            return Math.max(nanos, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedUrl value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedUrl value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.aurasage.document.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deduplicates concurrent calls for the same key: while a call is in flight, later callers
+ * subscribe to the same {@link Mono} instead of starting another one. The shared result is
+ * dropped as soon as the call terminates, so nothing is cached beyond that point.
+ *
+ * <p>The call runs with the subscriber context of the caller that started it.</p>
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String operation, boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.executed = meterRegistry.counter("aurasage.document.single-flight.calls",
+                "operation", operation, "result", "executed");
+        this.coalesced = meterRegistry.counter("aurasage.document.single-flight.calls",
+                "operation", operation, "result", "coalesced");
+        meterRegistry.gauge("aurasage.document.single-flight.in-flight", Tags.of("operation", operation), inFlight,
+                ConcurrentMap::size);
+    }
+
+    public Mono<V> execute(K key, Function<K, Mono<V>> call) {
+        if (!enabled || key == null) {
+            return call.apply(key);
+        }
+
+        return Mono.defer(() -> {
+            Mono<V> shared = inFlight.get(key);
+            if (shared != null) {
+                coalesced.increment();
+                return shared;
+            }
+
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> created = Mono.defer(() -> call.apply(key))
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(created);
+
+            shared = inFlight.putIfAbsent(key, created);
+            if (shared != null) {
+                coalesced.increment();
+                return shared;
+            }
+            executed.increment();
+            return created;
+        });
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.aurasage.document.client;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import feign.FeignException;
+import io.aurasage.core.storage.model.StorageRequest;
+import io.aurasage.document.scheduling.BlockingCalls;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fallback {@link StorageClient} backed by the blocking {@link StorageServiceClient}.
+ *
+ * <p>Calls are offloaded through {@link BlockingCalls} and the reactive security context is
+ * bound to the worker thread so that {@code FeignClientConfig#requestInterceptor} can
+ * still forward the bearer token.</p>
+ */
+public class FeignStorageClient implements StorageClient {
+
+    private final StorageServiceClient storageServiceClient;
+    private final BlockingCalls blockingCalls;
+
+    public FeignStorageClient(StorageServiceClient storageServiceClient, BlockingCalls blockingCalls) {
+        this.storageServiceClient = storageServiceClient;
+        this.blockingCalls = blockingCalls;
+    }
+
+    @Override
+    public Mono<String> generateUploadUrl(StorageRequest request) {
+        return blocking(() -> storageServiceClient.generateUploadUrl(request));
+    }
+
+    @Override
+    public Mono<String> generateDownloadUrl(String objectKey) {
+        return blocking(() -> storageServiceClient.generateDownloadUrl(objectKey));
+    }
+
+    @Override
+    public Mono<Void> deleteFile(String objectKey) {
+        return blocking(() -> {
+            storageServiceClient.deleteFile(objectKey);
+            return null;
+        }).then();
+    }
+
+    @Override
+    public Mono<Boolean> exists(String objectKey) {
+        return blocking(() -> {
+            try {
+                storageServiceClient.headFile(objectKey);
+                return true;
+            } catch (FeignException.NotFound e) {
+                return false;
+            }
+        });
+    }
+
+    @Override
+    public Mono<StoredObjectListing> listObjects(String prefix, String startAfter, int maxKeys) {
+        return blocking(() -> storageServiceClient.listObjects(prefix, startAfter, maxKeys));
+    }
+
+    @Override
+    public Mono<StorageMultipartUpload> initiateMultipartUpload(MultipartUploadInit request) {
+        return blocking(() -> storageServiceClient.initiateMultipartUpload(request));
+    }
+
+    @Override
+    public Mono<StorageMultipartUpload> resumeMultipartUpload(MultipartUploadResume request) {
+        return blocking(() -> storageServiceClient.resumeMultipartUpload(request));
+    }
+
+    @Override
+    public Mono<Void> completeMultipartUpload(MultipartUploadCompletion request) {
+        return blocking(() -> {
+            storageServiceClient.completeMultipartUpload(request);
+            return null;
+        }).then();
+    }
+
+    @Override
+    public Mono<Void> abortMultipartUpload(String objectKey, String uploadId) {
+        return blocking(() -> {
+            storageServiceClient.abortMultipartUpload(objectKey, uploadId);
+            return null;
+        }).then();
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(securityContext -> blockingCalls.call(() -> callWithContext(securityContext, call)));
+    }
+
+    private <T> T callWithContext(Optional<SecurityContext> securityContext, Callable<T> call) throws Exception {
+        securityContext.ifPresent(SecurityContextHolder::setContext);
+        try {
+            return call.call();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.aurasage.document.client;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+
+import io.aurasage.core.storage.model.StorageRequest;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link PresignedUrlProvider} signing URLs in process with the bucket credentials, saving
+ * the round trip to the storage service. Signing is pure CPU work and needs no I/O.
+ */
+public class LocalPresignedUrlProvider implements PresignedUrlProvider {
+
+    private final SigV4Presigner presigner;
+    private final URI endpoint;
+    private final String bucket;
+    private final boolean pathStyle;
+    private final Duration uploadExpiry;
+    private final Duration downloadExpiry;
+
+    /**
+     * @param pathStyle whether the bucket goes into the path ({@code endpoint/bucket/key}), as
+     *                  most S3-compatible stores expect, instead of the host name
+     */
+    public LocalPresignedUrlProvider(SigV4Presigner presigner, URI endpoint, String bucket, boolean pathStyle,
+            Duration uploadExpiry, Duration downloadExpiry) {
+        this.presigner = presigner;
+        this.endpoint = endpoint;
+        this.bucket = bucket;
+        this.pathStyle = pathStyle;
+        this.uploadExpiry = uploadExpiry;
+        this.downloadExpiry = downloadExpiry;
+    }
+
+    @Override
+    public Mono<String> presignUpload(StorageRequest request) {
+        return Mono.fromCallable(() -> presigner.presign("PUT", objectUri(request.getObjectKey()), uploadExpiry));
+    }
+
+    @Override
+    public Mono<String> presignDownload(String objectKey) {
+        return Mono.fromCallable(() -> presigner.presign("GET", objectUri(objectKey), downloadExpiry));
+    }
+
+    private URI objectUri(String objectKey) {
+        if (objectKey == null || objectKey.isBlank()) {
+            throw new IllegalArgumentException("Object key cannot be null or empty");
+        }
+        String key = objectKey.startsWith("/") ? objectKey.substring(1) : objectKey;
+        String host = endpoint.getHost();
+        String path = "/" + key;
+        if (pathStyle) {
+            path = "/" + bucket + path;
+        } else {
+            host = bucket + "." + host;
+        }
+        try {
+            return new URI(endpoint.getScheme(), null, host, endpoint.getPort(), path, null, null);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid object key: " + objectKey, e);
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package io.aurasage.document.client;
+
+import java.util.List;
+
+import io.aurasage.document.dto.CompletedPart;
+
+/**
+ * Request to the storage service to assemble the uploaded parts into the object.
+ */
+public record MultipartUploadCompletion(String objectKey, String uploadId, List<CompletedPart> parts) {
+}
@@ -0,0 +1,7 @@
+package io.aurasage.document.client;
+
+/**
+ * Request to the storage service to start a multipart upload and presign its part URLs.
+ */
+public record MultipartUploadInit(String objectKey, String fileName, int partCount) {
+}
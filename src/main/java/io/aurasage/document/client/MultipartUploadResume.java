@@ -0,0 +1,7 @@
+package io.aurasage.document.client;
+
+/**
+ * Request to the storage service to presign fresh part URLs for a started multipart upload.
+ */
+public record MultipartUploadResume(String objectKey, String uploadId, int partCount) {
+}
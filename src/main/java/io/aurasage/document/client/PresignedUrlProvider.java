@@ -0,0 +1,15 @@
+package io.aurasage.document.client;
+
+import io.aurasage.core.storage.model.StorageRequest;
+import reactor.core.publisher.Mono;
+
+/**
+ * Source of presigned URLs clients use to upload and download document objects directly.
+ */
+public interface PresignedUrlProvider {
+
+    Mono<String> presignUpload(StorageRequest request);
+
+    Mono<String> presignDownload(String objectKey);
+
+}
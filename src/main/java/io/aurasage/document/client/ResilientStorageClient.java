@@ -0,0 +1,208 @@
+package io.aurasage.document.client;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.aurasage.core.storage.model.StorageRequest;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * {@link StorageClient} decorator that isolates callers from a slow or failing storage service.
+ *
+ * <p>Every operation has its own circuit breaker and semaphore bulkhead, so a struggling
+ * endpoint fails fast instead of tying up connections and {@code boundedElastic} threads that
+ * other endpoints need. Idempotent operations are retried on transient failures with jittered
+ * exponential backoff, all attempts bounded by one deadline; an operation whose own timeout is
+ * longer, such as assembling a large multipart upload, gets that much time instead. Read
+ * operations can be hedged:
+ * when the first attempt has not answered within the hedge delay a second one is sent, which
+ * the load balancer routes to the next instance, and the first to answer wins.</p>
+ */
+@Slf4j
+public class ResilientStorageClient implements StorageClient {
+
+    public static final String UPLOAD_URL = "upload-url";
+    public static final String DOWNLOAD_URL = "download-url";
+    public static final String DELETE = "delete";
+    public static final String EXISTS = "exists";
+    public static final String LIST_OBJECTS = "list-objects";
+    public static final String MULTIPART_INIT = "multipart-init";
+    public static final String MULTIPART_RESUME = "multipart-resume";
+    public static final String MULTIPART_COMPLETE = "multipart-complete";
+    public static final String MULTIPART_ABORT = "multipart-abort";
+
+    private static final String REJECTED_METRIC = "aurasage.storage.client.rejected";
+    private static final String RETRIES_METRIC = "aurasage.storage.client.retries";
+    private static final String HEDGES_METRIC = "aurasage.storage.client.hedges";
+
+    private final StorageClient delegate;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+    private final MeterRegistry meterRegistry;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final double retryJitter;
+    private final Duration deadline;
+    private final Map<String, Duration> operationTimeouts;
+    private final Duration hedgeDelay;
+    private final Set<String> hedgedOperations;
+
+    /**
+     * @param operationTimeouts per-operation transport timeouts; an operation's deadline is the
+     *                          longer of {@code deadline} and its timeout
+     * @param hedgeDelay        delay before a hedged attempt, or {@code null} to disable hedging
+     * @param hedgedOperations  operations that may be hedged; only side-effect free ones make sense
+     */
+    public ResilientStorageClient(StorageClient delegate, CircuitBreakerRegistry circuitBreakers,
+            BulkheadRegistry bulkheads, MeterRegistry meterRegistry, int maxRetries, Duration retryBackoff,
+            double retryJitter, Duration deadline, Map<String, Duration> operationTimeouts, Duration hedgeDelay,
+            Set<String> hedgedOperations) {
+        this.delegate = delegate;
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+        this.meterRegistry = meterRegistry;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.retryJitter = retryJitter;
+        this.deadline = deadline;
+        this.operationTimeouts = operationTimeouts;
+        this.hedgeDelay = hedgeDelay;
+        this.hedgedOperations = hedgedOperations;
+    }
+
+    @Override
+    public Mono<String> generateUploadUrl(StorageRequest request) {
+        return call(UPLOAD_URL, true, () -> delegate.generateUploadUrl(request));
+    }
+
+    @Override
+    public Mono<String> generateDownloadUrl(String objectKey) {
+        return call(DOWNLOAD_URL, true, () -> delegate.generateDownloadUrl(objectKey));
+    }
+
+    @Override
+    public Mono<Void> deleteFile(String objectKey) {
+        return call(DELETE, true, () -> delegate.deleteFile(objectKey));
+    }
+
+    @Override
+    public Mono<Boolean> exists(String objectKey) {
+        return call(EXISTS, true, () -> delegate.exists(objectKey));
+    }
+
+    @Override
+    public Mono<StoredObjectListing> listObjects(String prefix, String startAfter, int maxKeys) {
+        return call(LIST_OBJECTS, true, () -> delegate.listObjects(prefix, startAfter, maxKeys));
+    }
+
+    @Override
+    public Mono<StorageMultipartUpload> initiateMultipartUpload(MultipartUploadInit request) {
+        // every call starts a new storage upload
+        return call(MULTIPART_INIT, false, () -> delegate.initiateMultipartUpload(request));
+    }
+
+    @Override
+    public Mono<StorageMultipartUpload> resumeMultipartUpload(MultipartUploadResume request) {
+        return call(MULTIPART_RESUME, true, () -> delegate.resumeMultipartUpload(request));
+    }
+
+    @Override
+    public Mono<Void> completeMultipartUpload(MultipartUploadCompletion request) {
+        return call(MULTIPART_COMPLETE, false, () -> delegate.completeMultipartUpload(request));
+    }
+
+    @Override
+    public Mono<Void> abortMultipartUpload(String objectKey, String uploadId) {
+        return call(MULTIPART_ABORT, true, () -> delegate.abortMultipartUpload(objectKey, uploadId));
+    }
+
+    private <T> Mono<T> call(String operation, boolean idempotent, Supplier<Mono<T>> request) {
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(operation);
+        Bulkhead bulkhead = bulkheads.bulkhead(operation);
+
+        Mono<T> attempt = Mono.defer(request)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnError(CallNotPermittedException.class, error -> rejected(operation, "circuit-open"))
+                .doOnError(BulkheadFullException.class, error -> rejected(operation, "bulkhead-full"));
+
+        Mono<T> call = hedgeDelay != null && hedgedOperations.contains(operation)
+                ? hedged(operation, attempt)
+                : attempt;
+
+        if (idempotent && maxRetries > 0) {
+            call = call.retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                    .jitter(retryJitter)
+                    .filter(ResilientStorageClient::isTransient)
+                    .doBeforeRetry(signal -> {
+                        meterRegistry.counter(RETRIES_METRIC, "operation", operation).increment();
+                        log.debug("Retrying storage {} after: {}", operation, signal.failure().getMessage());
+                    })
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        }
+
+        return call.timeout(deadline(operation));
+    }
+
+    private Duration deadline(String operation) {
+        Duration timeout = operationTimeouts.get(operation);
+        return timeout != null && timeout.compareTo(deadline) > 0 ? timeout : deadline;
+    }
+
+    /**
+     * Races the attempt against a copy started after the hedge delay; whichever signals first
+     * wins and the other is cancelled. A fast failure of the first attempt is not hedged.
+     */
+    private <T> Mono<T> hedged(String operation, Mono<T> attempt) {
+        Mono<T> hedge = Mono.delay(hedgeDelay)
+                .then(Mono.defer(() -> {
+                    meterRegistry.counter(HEDGES_METRIC, "operation", operation).increment();
+                    return attempt;
+                }));
+        return Mono.firstWithSignal(attempt, hedge);
+    }
+
+    private void rejected(String operation, String reason) {
+        meterRegistry.counter(REJECTED_METRIC, "operation", operation, "reason", reason).increment();
+    }
+
+    /**
+     * Failures worth retrying and counting against the circuit breaker: timeouts, connection
+     * problems, server errors and throttling. Client errors are the caller's fault and rejected
+     * calls are already fast.
+     */
+    public static boolean isTransient(Throwable error) {
+        if (error instanceof TimeoutException || error instanceof ConnectException
+                || error instanceof WebClientRequestException || error instanceof RetryableException) {
+            return true;
+        }
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        if (error instanceof FeignException feign) {
+            return feign.status() >= 500 || feign.status() == 429;
+        }
+        return false;
+    }
+
+}
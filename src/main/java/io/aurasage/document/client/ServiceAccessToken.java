@@ -0,0 +1,64 @@
+package io.aurasage.document.client;
+
+import org.springframework.security.oauth2.client.AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.InMemoryReactiveOAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.ReactiveOAuth2AuthorizedClientProviderBuilder;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Access token the service presents on its own behalf when a storage call is not made for a
+ * user request, as in the pending upload jobs.
+ *
+ * <p>The token is obtained with the client credentials grant of one client registration and
+ * reused until it expires. Without a registration no token is available and such calls go out
+ * unauthenticated.</p>
+ */
+public class ServiceAccessToken {
+
+    private static final String PRINCIPAL = "aurasage-document-service";
+
+    private final ReactiveOAuth2AuthorizedClientManager authorizedClientManager;
+    private final String registrationId;
+
+    private ServiceAccessToken(ReactiveOAuth2AuthorizedClientManager authorizedClientManager, String registrationId) {
+        this.authorizedClientManager = authorizedClientManager;
+        this.registrationId = registrationId;
+    }
+
+    public static ServiceAccessToken clientCredentials(ReactiveClientRegistrationRepository registrations,
+            String registrationId) {
+        AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager manager =
+                new AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager(registrations,
+                        new InMemoryReactiveOAuth2AuthorizedClientService(registrations));
+        manager.setAuthorizedClientProvider(ReactiveOAuth2AuthorizedClientProviderBuilder.builder()
+                .clientCredentials()
+                .build());
+        return new ServiceAccessToken(manager, registrationId);
+    }
+
+    public static ServiceAccessToken none() {
+        return new ServiceAccessToken(null, null);
+    }
+
+    public boolean isAvailable() {
+        return authorizedClientManager != null;
+    }
+
+    /**
+     * @return the current token, or empty when no client registration is configured
+     */
+    public Mono<String> get() {
+        if (authorizedClientManager == null) {
+            return Mono.empty();
+        }
+        return authorizedClientManager.authorize(OAuth2AuthorizeRequest.withClientRegistrationId(registrationId)
+                        .principal(PRINCIPAL)
+                        .build())
+                .map(authorizedClient -> authorizedClient.getAccessToken().getTokenValue());
+    }
+
+}
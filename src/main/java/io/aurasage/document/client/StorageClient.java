@@ -0,0 +1,54 @@
+package io.aurasage.document.client;
+
+import io.aurasage.core.storage.model.StorageRequest;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the storage service.
+ *
+ * <p>The bearer token of the caller is resolved from the Reactor context, so
+ * implementations must be subscribed within the request pipeline for the
+ * token to be propagated.</p>
+ */
+public interface StorageClient {
+
+    Mono<String> generateUploadUrl(StorageRequest request);
+
+    Mono<String> generateDownloadUrl(String objectKey);
+
+    Mono<Void> deleteFile(String objectKey);
+
+    /**
+     * @return whether an object is stored under the key
+     */
+    Mono<Boolean> exists(String objectKey);
+
+    /**
+     * Lists up to {@code maxKeys} objects under the prefix in key order.
+     *
+     * @param startAfter key to start the listing after, or {@code null} to start at the prefix
+     */
+    Mono<StoredObjectListing> listObjects(String prefix, String startAfter, int maxKeys);
+
+    /**
+     * Starts a multipart upload of the object and presigns one PUT URL per part.
+     */
+    Mono<StorageMultipartUpload> initiateMultipartUpload(MultipartUploadInit request);
+
+    /**
+     * Presigns fresh PUT URLs for every part of a started multipart upload, e.g. after the
+     * first ones expired. Parts uploaded again replace the earlier upload of the same number.
+     */
+    Mono<StorageMultipartUpload> resumeMultipartUpload(MultipartUploadResume request);
+
+    /**
+     * Assembles the uploaded parts into the object.
+     */
+    Mono<Void> completeMultipartUpload(MultipartUploadCompletion request);
+
+    /**
+     * Aborts the multipart upload and discards its uploaded parts.
+     */
+    Mono<Void> abortMultipartUpload(String objectKey, String uploadId);
+
+}
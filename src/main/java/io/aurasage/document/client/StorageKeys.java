@@ -0,0 +1,28 @@
+package io.aurasage.document.client;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+
+/**
+ * Layout of document objects in storage: {@code ownerId/documentId.ext}.
+ */
+public final class StorageKeys {
+
+    private StorageKeys() {
+    }
+
+    public static String objectKeyFor(AsDocument document) {
+        String fileName = document.getFileName();
+        String extension = fileName != null && fileName.contains(".")
+                ? fileName.substring(fileName.lastIndexOf("."))
+                : "";
+        return document.getOwnerId() + "/" + document.getId() + extension;
+    }
+
+    public static String documentIdOf(String objectKey) {
+        String fileName = objectKey.substring(objectKey.lastIndexOf('/') + 1);
+        return fileName.contains(".")
+                ? fileName.substring(0, fileName.lastIndexOf('.'))
+                : fileName;
+    }
+
+}
@@ -0,0 +1,12 @@
+package io.aurasage.document.client;
+
+import java.util.List;
+
+/**
+ * Multipart upload started by the storage service.
+ *
+ * @param uploadId storage-side id of the upload
+ * @param partUrls presigned PUT URL per part, ordered by part number
+ */
+public record StorageMultipartUpload(String uploadId, List<String> partUrls) {
+}
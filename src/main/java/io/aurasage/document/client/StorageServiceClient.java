@@ -4,6 +4,8 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import io.aurasage.core.storage.model.StorageRequest;
@@ -22,4 +24,24 @@ public interface StorageServiceClient {
     @GetMapping("/storage/download-url")
     String generateDownloadUrl(@RequestParam("objectKey") String objectKey);
 
+    @RequestMapping(method = RequestMethod.HEAD, value = "/storage")
+    void headFile(@RequestParam("objectKey") String objectKey);
+
+    @GetMapping("/storage/objects")
+    StoredObjectListing listObjects(@RequestParam("prefix") String prefix,
+            @RequestParam(value = "startAfter", required = false) String startAfter,
+            @RequestParam("maxKeys") int maxKeys);
+
+    @PostMapping("/storage/multipart-upload")
+    StorageMultipartUpload initiateMultipartUpload(@RequestBody MultipartUploadInit request);
+
+    @PostMapping("/storage/multipart-upload/part-urls")
+    StorageMultipartUpload resumeMultipartUpload(@RequestBody MultipartUploadResume request);
+
+    @PostMapping("/storage/multipart-upload/complete")
+    void completeMultipartUpload(@RequestBody MultipartUploadCompletion request);
+
+    @DeleteMapping("/storage/multipart-upload")
+    void abortMultipartUpload(@RequestParam("objectKey") String objectKey, @RequestParam("uploadId") String uploadId);
+
 }
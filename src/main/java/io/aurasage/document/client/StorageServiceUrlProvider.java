@@ -0,0 +1,27 @@
+package io.aurasage.document.client;
+
+import io.aurasage.core.storage.model.StorageRequest;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link PresignedUrlProvider} asking the storage service for every URL.
+ */
+public class StorageServiceUrlProvider implements PresignedUrlProvider {
+
+    private final StorageClient storageClient;
+
+    public StorageServiceUrlProvider(StorageClient storageClient) {
+        this.storageClient = storageClient;
+    }
+
+    @Override
+    public Mono<String> presignUpload(StorageRequest request) {
+        return storageClient.generateUploadUrl(request);
+    }
+
+    @Override
+    public Mono<String> presignDownload(String objectKey) {
+        return storageClient.generateDownloadUrl(objectKey);
+    }
+
+}
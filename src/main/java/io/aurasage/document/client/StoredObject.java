@@ -0,0 +1,9 @@
+package io.aurasage.document.client;
+
+/**
+ * Object found in a storage listing.
+ *
+ * @param eTag storage ETag, the MD5 of the content for single-part uploads
+ */
+public record StoredObject(String objectKey, String eTag, Long size, String contentType) {
+}
@@ -0,0 +1,11 @@
+package io.aurasage.document.client;
+
+import java.util.List;
+
+/**
+ * One page of a storage listing, in key order.
+ *
+ * @param nextStartAfter key to continue the listing after, or {@code null} on the last page
+ */
+public record StoredObjectListing(List<StoredObject> objects, String nextStartAfter) {
+}
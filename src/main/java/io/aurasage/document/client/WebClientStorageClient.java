@@ -0,0 +1,149 @@
+package io.aurasage.document.client;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.aurasage.core.storage.model.StorageRequest;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+public class WebClientStorageClient implements StorageClient {
+
+    private final WebClient webClient;
+    private final Duration uploadUrlTimeout;
+    private final Duration downloadUrlTimeout;
+    private final Duration deleteTimeout;
+    private final Duration multipartCompleteTimeout;
+
+    public WebClientStorageClient(WebClient webClient, Duration uploadUrlTimeout, Duration downloadUrlTimeout,
+            Duration deleteTimeout, Duration multipartCompleteTimeout) {
+        this.webClient = webClient;
+        this.uploadUrlTimeout = uploadUrlTimeout;
+        this.downloadUrlTimeout = downloadUrlTimeout;
+        this.deleteTimeout = deleteTimeout;
+        this.multipartCompleteTimeout = multipartCompleteTimeout;
+    }
+
+    @Override
+    public Mono<String> generateUploadUrl(StorageRequest request) {
+        return webClient.post()
+                .uri("/storage/upload-url")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(uploadUrlTimeout)
+                .doOnError(error -> log.debug("Upload URL request failed for {}: {}", request.getObjectKey(),
+                        error.getMessage()));
+    }
+
+    @Override
+    public Mono<String> generateDownloadUrl(String objectKey) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/storage/download-url")
+                        .queryParam("objectKey", objectKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(downloadUrlTimeout)
+                .doOnError(error -> log.debug("Download URL request failed for {}: {}", objectKey,
+                        error.getMessage()));
+    }
+
+    @Override
+    public Mono<Void> deleteFile(String objectKey) {
+        return webClient.delete()
+                .uri(uriBuilder -> uriBuilder.path("/storage")
+                        .queryParam("objectKey", objectKey)
+                        .build())
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(deleteTimeout)
+                .doOnError(error -> log.debug("Delete request failed for {}: {}", objectKey, error.getMessage()))
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> exists(String objectKey) {
+        return webClient.head()
+                .uri(uriBuilder -> uriBuilder.path("/storage")
+                        .queryParam("objectKey", objectKey)
+                        .build())
+                .retrieve()
+                .toBodilessEntity()
+                .map(response -> true)
+                .onErrorResume(WebClientResponseException.NotFound.class, error -> Mono.just(false))
+                .timeout(downloadUrlTimeout);
+    }
+
+    @Override
+    public Mono<StoredObjectListing> listObjects(String prefix, String startAfter, int maxKeys) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/storage/objects")
+                        .queryParam("prefix", prefix)
+                        .queryParamIfPresent("startAfter", Optional.ofNullable(startAfter))
+                        .queryParam("maxKeys", maxKeys)
+                        .build())
+                .retrieve()
+                .bodyToMono(StoredObjectListing.class)
+                .timeout(downloadUrlTimeout);
+    }
+
+    @Override
+    public Mono<StorageMultipartUpload> initiateMultipartUpload(MultipartUploadInit request) {
+        return webClient.post()
+                .uri("/storage/multipart-upload")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(StorageMultipartUpload.class)
+                .timeout(uploadUrlTimeout)
+                .doOnError(error -> log.debug("Multipart upload request failed for {}: {}", request.objectKey(),
+                        error.getMessage()));
+    }
+
+    @Override
+    public Mono<StorageMultipartUpload> resumeMultipartUpload(MultipartUploadResume request) {
+        return webClient.post()
+                .uri("/storage/multipart-upload/part-urls")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(StorageMultipartUpload.class)
+                .timeout(uploadUrlTimeout)
+                .doOnError(error -> log.debug("Multipart part URL request failed for {}: {}", request.objectKey(),
+                        error.getMessage()));
+    }
+
+    @Override
+    public Mono<Void> completeMultipartUpload(MultipartUploadCompletion request) {
+        return webClient.post()
+                .uri("/storage/multipart-upload/complete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .toBodilessEntity()
+                // assembling many parts can take much longer than presigning
+                .timeout(multipartCompleteTimeout)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> abortMultipartUpload(String objectKey, String uploadId) {
+        return webClient.delete()
+                .uri(uriBuilder -> uriBuilder.path("/storage/multipart-upload")
+                        .queryParam("objectKey", objectKey)
+                        .queryParam("uploadId", uploadId)
+                        .build())
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(deleteTimeout)
+                .then();
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.aurasage.document.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.aurasage.document.event.CacheInvalidationPublisher;
+import io.aurasage.document.event.RabbitCacheInvalidationPublisher;
+
+/**
+ * Broadcast of metadata cache invalidations between replicas.
+ *
+ * <p>Every instance binds its own exclusive, auto-deleted queue to one fanout exchange, so each
+ * invalidation reaches all replicas instead of being shared out between them as on a work queue.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "aurasage.document.metadata-cache.broadcast", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationConfig {
+
+    @Bean
+    FanoutExchange documentCacheInvalidationExchange(
+            @Value("${aurasage.document.metadata-cache.exchange:document.cache.invalidated}") String name) {
+        return new FanoutExchange(name);
+    }
+
+    @Bean
+    AnonymousQueue documentCacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    Binding documentCacheInvalidationBinding(AnonymousQueue documentCacheInvalidationQueue,
+            FanoutExchange documentCacheInvalidationExchange) {
+        return BindingBuilder.bind(documentCacheInvalidationQueue).to(documentCacheInvalidationExchange);
+    }
+
+    @Bean
+    CacheInvalidationPublisher cacheInvalidationPublisher(RabbitTemplate rabbitTemplate,
+            FanoutExchange documentCacheInvalidationExchange, ObjectMapper objectMapper) {
+        return new RabbitCacheInvalidationPublisher(rabbitTemplate, documentCacheInvalidationExchange, objectMapper);
+    }
+
+}
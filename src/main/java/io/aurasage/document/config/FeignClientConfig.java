@@ -1,5 +1,6 @@
 package io.aurasage.document.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
@@ -9,18 +10,26 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
 import feign.RequestInterceptor;
+import io.aurasage.document.client.ServiceAccessToken;
 
 @Configuration
+@ConditionalOnProperty(name = "aurasage.storage-service.client", havingValue = "feign")
 @EnableFeignClients(basePackages = "io.aurasage.document.client")
 public class FeignClientConfig {
 
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(ServiceAccessToken serviceAccessToken) {
         return requestTemplate -> {
             var authentication = SecurityContextHolder.getContext().getAuthentication();
 
+            String token;
             if (authentication instanceof JwtAuthenticationToken jwtAuth) {
-                String token = jwtAuth.getToken().getTokenValue();
+                token = jwtAuth.getToken().getTokenValue();
+            } else {
+                // Feign calls run on BlockingCalls threads, so waiting for the service token is fine
+                token = serviceAccessToken.get().block();
+            }
+            if (token != null) {
                 requestTemplate.header("Authorization", "Bearer " + token);
             }
         };
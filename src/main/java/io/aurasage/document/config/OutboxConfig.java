@@ -0,0 +1,29 @@
+package io.aurasage.document.config;
+
+import java.time.Duration;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.aurasage.document.event.OutboxPublisher;
+import io.aurasage.document.event.RabbitOutboxPublisher;
+
+/**
+ * Broker side of the domain event outbox: confirmed batch publishing for the relay.
+ */
+@Configuration
+@ConditionalOnProperty(name = "aurasage.document.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    OutboxPublisher rabbitOutboxPublisher(RabbitTemplate rabbitTemplate,
+            @Value("${aurasage.document.outbox.relay.exchange:${aurasage.event.exchange:document.service}}")
+            String exchange,
+            @Value("${aurasage.document.outbox.relay.confirm-timeout:10s}") Duration confirmTimeout) {
+        return new RabbitOutboxPublisher(rabbitTemplate, exchange, confirmTimeout);
+    }
+
+}
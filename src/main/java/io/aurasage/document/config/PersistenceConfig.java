@@ -0,0 +1,181 @@
+package io.aurasage.document.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.StringUtils;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.repository.DocumentRepository;
+import io.aurasage.document.repository.DocumentOperations;
+import io.aurasage.document.repository.DocumentStatsStore;
+import io.aurasage.document.repository.DocumentTagStore;
+import io.aurasage.document.repository.JobCheckpointStore;
+import io.aurasage.document.repository.JobLockStore;
+import io.aurasage.document.repository.MultipartUploadStore;
+import io.aurasage.document.repository.OutboxStore;
+import io.aurasage.document.repository.impl.DefaultDocumentOperations;
+import io.aurasage.document.repository.impl.InMemoryDocumentStatsStore;
+import io.aurasage.document.repository.impl.InMemoryDocumentTagStore;
+import io.aurasage.document.repository.impl.InMemoryJobCheckpointStore;
+import io.aurasage.document.repository.impl.InMemoryJobLockStore;
+import io.aurasage.document.repository.impl.InMemoryMultipartUploadStore;
+import io.aurasage.document.repository.impl.MongoDocumentOperations;
+import io.aurasage.document.repository.impl.MongoDocumentStatsStore;
+import io.aurasage.document.repository.impl.MongoDocumentTagStore;
+import io.aurasage.document.repository.impl.MongoJobCheckpointStore;
+import io.aurasage.document.repository.impl.MongoJobLockStore;
+import io.aurasage.document.repository.impl.MongoMultipartUploadStore;
+import io.aurasage.document.repository.impl.MongoOutboxStore;
+
+/**
+ * Selects the {@link DocumentOperations} and side store implementations matching the active
+ * persistence adapter.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.data.mongodb.core.ReactiveMongoTemplate")
+    @ConditionalOnProperty(name = "aurasage.database.type", havingValue = "mongodb", matchIfMissing = true)
+    static class MongoPersistenceConfig {
+
+        @Value("${aurasage.document.mongodb.collection:}")
+        private String collectionName;
+
+        @Value("${aurasage.document.mongodb.auto-index:true}")
+        private boolean autoIndex;
+
+        @Value("${aurasage.document.mongodb.stats-collection:document_stats}")
+        private String statsCollectionName;
+
+        @Value("${aurasage.document.mongodb.tags-collection:document_tags}")
+        private String tagsCollectionName;
+
+        @Value("${aurasage.document.mongodb.multipart-collection:multipart_uploads}")
+        private String multipartCollectionName;
+
+        @Value("${aurasage.document.mongodb.job-lock-collection:job_locks}")
+        private String jobLockCollectionName;
+
+        @Value("${aurasage.document.mongodb.job-checkpoint-collection:job_checkpoints}")
+        private String jobCheckpointCollectionName;
+
+        @Value("${aurasage.document.mongodb.outbox-collection:document_outbox}")
+        private String outboxCollectionName;
+
+        // also the PendingUploadQueries of the pending upload jobs
+        @Bean
+        public MongoDocumentOperations mongoDocumentOperations(ReactiveMongoTemplate mongoTemplate) {
+            String collection = StringUtils.hasText(collectionName)
+                    ? collectionName
+                    : mongoTemplate.getCollectionName(AsDocument.class);
+
+            MongoDocumentOperations operations = new MongoDocumentOperations(mongoTemplate, collection);
+            if (autoIndex) {
+                operations.ensureIndexes();
+            }
+            return operations;
+        }
+
+        @Bean
+        public DocumentStatsStore mongoDocumentStatsStore(ReactiveMongoTemplate mongoTemplate) {
+            return new MongoDocumentStatsStore(mongoTemplate, statsCollectionName);
+        }
+
+        @Bean
+        public DocumentTagStore mongoDocumentTagStore(ReactiveMongoTemplate mongoTemplate) {
+            MongoDocumentTagStore store = new MongoDocumentTagStore(mongoTemplate, tagsCollectionName);
+            if (autoIndex) {
+                store.ensureIndexes();
+            }
+            return store;
+        }
+
+        @Bean
+        public MultipartUploadStore mongoMultipartUploadStore(ReactiveMongoTemplate mongoTemplate) {
+            return new MongoMultipartUploadStore(mongoTemplate, multipartCollectionName);
+        }
+
+        @Bean
+        public JobLockStore mongoJobLockStore(ReactiveMongoTemplate mongoTemplate) {
+            return new MongoJobLockStore(mongoTemplate, jobLockCollectionName);
+        }
+
+        @Bean
+        public JobCheckpointStore mongoJobCheckpointStore(ReactiveMongoTemplate mongoTemplate) {
+            return new MongoJobCheckpointStore(mongoTemplate, jobCheckpointCollectionName);
+        }
+
+        // no fallback: without a durable store, events are published directly
+        @Bean
+        @ConditionalOnProperty(name = "aurasage.document.outbox.enabled", havingValue = "true")
+        public OutboxStore mongoOutboxStore(ReactiveMongoTemplate mongoTemplate) {
+            MongoOutboxStore store = new MongoOutboxStore(mongoTemplate, outboxCollectionName);
+            if (autoIndex) {
+                store.ensureIndexes();
+            }
+            return store;
+        }
+
+        // outbox writes commit with the change that raised them; needs a replica set or sharded cluster
+        @Bean
+        @ConditionalOnProperty(name = "aurasage.document.outbox.enabled", havingValue = "true")
+        public ReactiveMongoTransactionManager outboxTransactionManager(ReactiveMongoDatabaseFactory databaseFactory) {
+            return new ReactiveMongoTransactionManager(databaseFactory);
+        }
+
+        @Bean
+        @ConditionalOnProperty(name = "aurasage.document.outbox.enabled", havingValue = "true")
+        public TransactionalOperator outboxTransactionalOperator(ReactiveMongoTransactionManager transactionManager) {
+            return TransactionalOperator.create(transactionManager);
+        }
+    }
+
+    @Value("${aurasage.document.persistence.write-concurrency:16}")
+    private int writeConcurrency;
+
+    @Bean
+    @ConditionalOnMissingBean(DocumentOperations.class)
+    public DocumentOperations defaultDocumentOperations(DocumentRepository documentRepository) {
+        return new DefaultDocumentOperations(documentRepository, writeConcurrency);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(DocumentStatsStore.class)
+    public DocumentStatsStore inMemoryDocumentStatsStore() {
+        return new InMemoryDocumentStatsStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(DocumentTagStore.class)
+    public DocumentTagStore inMemoryDocumentTagStore() {
+        return new InMemoryDocumentTagStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(MultipartUploadStore.class)
+    public MultipartUploadStore inMemoryMultipartUploadStore() {
+        return new InMemoryMultipartUploadStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(JobLockStore.class)
+    public JobLockStore inMemoryJobLockStore() {
+        return new InMemoryJobLockStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(JobCheckpointStore.class)
+    public JobCheckpointStore inMemoryJobCheckpointStore() {
+        return new InMemoryJobCheckpointStore();
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.aurasage.document.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.aurasage.document.event.RabbitStatusEventPublisher;
+import io.aurasage.document.event.StatusEventPublisher;
+
+/**
+ * Broadcast of document status changes between replicas.
+ *
+ * <p>A client's event stream is held by whichever replica it connected to, while the change
+ * may be applied on any other. Every instance binds its own exclusive, auto-deleted queue to
+ * one fanout exchange so each change reaches all of them.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "aurasage.document.status-events.broadcast", havingValue = "true", matchIfMissing = true)
+public class StatusEventConfig {
+
+    @Bean
+    FanoutExchange documentStatusEventExchange(
+            @Value("${aurasage.document.status-events.exchange:document.status.changed}") String name) {
+        return new FanoutExchange(name);
+    }
+
+    @Bean
+    AnonymousQueue documentStatusEventQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    Binding documentStatusEventBinding(AnonymousQueue documentStatusEventQueue,
+            FanoutExchange documentStatusEventExchange) {
+        return BindingBuilder.bind(documentStatusEventQueue).to(documentStatusEventExchange);
+    }
+
+    @Bean
+    StatusEventPublisher statusEventPublisher(RabbitTemplate rabbitTemplate,
+            FanoutExchange documentStatusEventExchange, ObjectMapper objectMapper) {
+        return new RabbitStatusEventPublisher(rabbitTemplate, documentStatusEventExchange, objectMapper);
+    }
+
+}
@@ -0,0 +1,267 @@
+package io.aurasage.document.config;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.aurasage.document.client.FeignStorageClient;
+import io.aurasage.document.client.LocalPresignedUrlProvider;
+import io.aurasage.document.client.PresignedUrlProvider;
+import io.aurasage.document.client.ResilientStorageClient;
+import io.aurasage.document.client.ServiceAccessToken;
+import io.aurasage.document.client.SigV4Presigner;
+import io.aurasage.document.client.StorageClient;
+import io.aurasage.document.client.StorageServiceClient;
+import io.aurasage.document.client.StorageServiceUrlProvider;
+import io.aurasage.document.client.WebClientStorageClient;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Slf4j
+@Configuration
+public class StorageClientConfig {
+
+    private static final String STORAGE_SERVICE_NAME = "aurasage-storage-service";
+
+    @Value("${aurasage.storage-service.url:}")
+    private String storageServiceUrl;
+
+    @Value("${aurasage.storage-service.service-client-registration:storage-service}")
+    private String serviceClientRegistration;
+
+    @Value("${aurasage.storage-service.pool.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${aurasage.storage-service.pool.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${aurasage.storage-service.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${aurasage.storage-service.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${aurasage.storage-service.timeout.upload-url:5s}")
+    private Duration uploadUrlTimeout;
+
+    @Value("${aurasage.storage-service.timeout.download-url:3s}")
+    private Duration downloadUrlTimeout;
+
+    @Value("${aurasage.storage-service.timeout.delete:5s}")
+    private Duration deleteTimeout;
+
+    @Value("${aurasage.storage-service.timeout.multipart-complete:60s}")
+    private Duration multipartCompleteTimeout;
+
+    @Value("${aurasage.storage-service.resilience.enabled:true}")
+    private boolean resilienceEnabled;
+
+    @Value("${aurasage.storage-service.resilience.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${aurasage.storage-service.resilience.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${aurasage.storage-service.resilience.circuit-breaker.slow-call-duration:2s}")
+    private Duration slowCallDuration;
+
+    @Value("${aurasage.storage-service.resilience.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${aurasage.storage-service.resilience.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${aurasage.storage-service.resilience.circuit-breaker.open-duration:10s}")
+    private Duration openDuration;
+
+    @Value("${aurasage.storage-service.resilience.circuit-breaker.half-open-calls:5}")
+    private int halfOpenCalls;
+
+    @Value("${aurasage.storage-service.resilience.bulkhead.max-concurrent-calls:100}")
+    private int bulkheadMaxConcurrentCalls;
+
+    @Value("${aurasage.storage-service.resilience.bulkhead.max-wait:0ms}")
+    private Duration bulkheadMaxWait;
+
+    @Value("${aurasage.storage-service.resilience.retry.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${aurasage.storage-service.resilience.retry.backoff:100ms}")
+    private Duration retryBackoff;
+
+    @Value("${aurasage.storage-service.resilience.retry.jitter:0.5}")
+    private double retryJitter;
+
+    @Value("${aurasage.storage-service.resilience.deadline:10s}")
+    private Duration deadline;
+
+    @Value("${aurasage.storage-service.resilience.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${aurasage.storage-service.resilience.hedge.delay:300ms}")
+    private Duration hedgeDelay;
+
+    @Value("${aurasage.storage-service.resilience.hedge.operations:download-url,exists}")
+    private List<String> hedgedOperations;
+
+    /**
+     * Credentials for storage calls made outside a user request; the registration is declared
+     * under {@code spring.security.oauth2.client.registration}.
+     */
+    @Bean
+    public ServiceAccessToken serviceAccessToken(ObjectProvider<ReactiveClientRegistrationRepository> registrations) {
+        ReactiveClientRegistrationRepository repository = registrations.getIfAvailable();
+        if (repository == null) {
+            log.warn("No OAuth2 client registration configured; background storage calls are sent without a token");
+            return ServiceAccessToken.none();
+        }
+        log.info("Authenticating background storage calls with client registration {}", serviceClientRegistration);
+        return ServiceAccessToken.clientCredentials(repository, serviceClientRegistration);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "aurasage.storage-service.client", havingValue = "webclient", matchIfMissing = true)
+    public StorageClient webClientStorageClient(WebClient.Builder webClientBuilder,
+            ObjectProvider<ReactorLoadBalancerExchangeFilterFunction> loadBalancerFilter,
+            ServiceAccessToken serviceAccessToken, ObjectProvider<MeterRegistry> meterRegistry) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(STORAGE_SERVICE_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+
+        WebClient.Builder builder = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(bearerToken(serviceAccessToken));
+
+        // Without an explicit URL the storage service is resolved through Eureka, as the Feign client does
+        if (StringUtils.hasText(storageServiceUrl)) {
+            builder.baseUrl(storageServiceUrl);
+        } else {
+            builder.baseUrl("http://" + STORAGE_SERVICE_NAME);
+            loadBalancerFilter.ifAvailable(builder::filter);
+        }
+
+        return resilient(new WebClientStorageClient(builder.build(), uploadUrlTimeout, downloadUrlTimeout,
+                deleteTimeout, multipartCompleteTimeout), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "aurasage.storage-service.client", havingValue = "feign")
+    public StorageClient feignStorageClient(StorageServiceClient storageServiceClient, BlockingCalls blockingCalls,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return resilient(new FeignStorageClient(storageServiceClient, blockingCalls), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "aurasage.storage.presigner", havingValue = "storage-service", matchIfMissing = true)
+    public PresignedUrlProvider storageServiceUrlProvider(StorageClient storageClient) {
+        return new StorageServiceUrlProvider(storageClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "aurasage.storage.presigner", havingValue = "local")
+    public PresignedUrlProvider localPresignedUrlProvider(
+            @Value("${aurasage.storage.endpoint}") URI endpoint,
+            @Value("${aurasage.storage.bucket}") String bucket,
+            @Value("${aurasage.storage.region:us-east-1}") String region,
+            @Value("${aurasage.storage.access-key}") String accessKey,
+            @Value("${aurasage.storage.secret-key}") String secretKey,
+            @Value("${aurasage.storage.path-style:true}") boolean pathStyle,
+            @Value("${aurasage.storage.upload-url-expiry:15m}") Duration uploadExpiry,
+            @Value("${aurasage.storage.download-url-expiry:15m}") Duration downloadExpiry) {
+        log.info("Presigning storage URLs locally for bucket {} at {}", bucket, endpoint);
+        return new LocalPresignedUrlProvider(new SigV4Presigner(accessKey, secretKey, region, Clock.systemUTC()),
+                endpoint, bucket, pathStyle, uploadExpiry, downloadExpiry);
+    }
+
+    private StorageClient resilient(StorageClient storageClient, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        if (!resilienceEnabled) {
+            return storageClient;
+        }
+
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(ResilientStorageClient::isTransient)
+                .build());
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(bulkheadMaxConcurrentCalls)
+                .maxWaitDuration(bulkheadMaxWait)
+                .build());
+
+        circuitBreakers.getEventPublisher().onEntryAdded(added -> added.getAddedEntry().getEventPublisher()
+                .onStateTransition(event -> log.warn("Storage circuit breaker {}: {}", event.getCircuitBreakerName(),
+                        event.getStateTransition())));
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+
+        return new ResilientStorageClient(storageClient, circuitBreakers, bulkheads, meterRegistry, maxRetries,
+                retryBackoff, retryJitter, deadline, Map.of(
+                        ResilientStorageClient.UPLOAD_URL, uploadUrlTimeout,
+                        ResilientStorageClient.DOWNLOAD_URL, downloadUrlTimeout,
+                        ResilientStorageClient.DELETE, deleteTimeout,
+                        ResilientStorageClient.MULTIPART_COMPLETE, multipartCompleteTimeout),
+                hedgeEnabled ? hedgeDelay : null, Set.copyOf(hedgedOperations));
+    }
+
+    /**
+     * Forwards the caller's JWT, or sends the service's own token for calls without one.
+     */
+    private ExchangeFilterFunction bearerToken(ServiceAccessToken serviceAccessToken) {
+        return (request, next) -> ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .map(authentication -> ((JwtAuthenticationToken) authentication).getToken().getTokenValue())
+                .switchIfEmpty(Mono.defer(serviceAccessToken::get))
+                .map(token -> ClientRequest.from(request)
+                        .headers(headers -> headers.setBearerAuth(token))
+                        .build())
+                .defaultIfEmpty(request)
+                .flatMap(next::exchange);
+    }
+
+}
@@ -4,26 +4,40 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.aurasage.document.api.DocumentApi;
+import io.aurasage.document.dto.BulkDeleteProgress;
+import io.aurasage.document.dto.CompletedPart;
+import io.aurasage.document.dto.DocumentBatchUploadResponse;
+import io.aurasage.document.dto.DocumentPageResponse;
 import io.aurasage.document.dto.DocumentRequest;
 import io.aurasage.document.dto.DocumentResponse;
+import io.aurasage.document.dto.DocumentStatsResponse;
+import io.aurasage.document.dto.DocumentStatusEvent;
+import io.aurasage.document.dto.MultipartUploadResponse;
 import io.aurasage.document.service.DocumentService;
+import io.aurasage.document.service.DocumentStatsService;
 import io.micrometer.observation.annotation.Observed;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Slf4j
 @RestController
@@ -31,9 +45,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 public class DocumentController implements DocumentApi {
 
     private final DocumentService documentService;
+    private final DocumentStatsService documentStatsService;
+    private final Duration heartbeatInterval;
 
-    public DocumentController(DocumentService documentService) {
+    public DocumentController(DocumentService documentService, DocumentStatsService documentStatsService,
+            @Value("${aurasage.document.status-events.heartbeat-interval:15s}") Duration heartbeatInterval) {
         this.documentService = documentService;
+        this.documentStatsService = documentStatsService;
+        this.heartbeatInterval = heartbeatInterval;
     }
 
     @Override
@@ -51,10 +70,84 @@ public class DocumentController implements DocumentApi {
             .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
+    @Override
+    @PostMapping("/init-upload/batch")
+    @Observed(name = "documentController.initBatchUpload", contextualName = "document-init-upload-batch")
+    public Mono<ResponseEntity<DocumentBatchUploadResponse>> initBatchUpload(
+            @RequestBody @NotNull List<DocumentRequest> documentRequests, Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Mono.error(new SecurityException("Authentication required"));
+        }
+
+        String userId = authentication.getName();
+        return documentService.uploadDocuments(documentRequests, userId)
+            .map(response -> ResponseEntity.ok(response));
+    }
+
+    @Override
+    @PostMapping("/init-upload/multipart")
+    @Observed(name = "documentController.initMultipartUpload", contextualName = "document-init-multipart-upload")
+    public Mono<ResponseEntity<MultipartUploadResponse>> initMultipartUpload(
+            @RequestBody @NotNull DocumentRequest documentRequest, Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Mono.error(new SecurityException("Authentication required"));
+        }
+
+        return documentService.initMultipartUpload(documentRequest, authentication.getName())
+            .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @Override
+    @GetMapping("/{id}/multipart")
+    @Observed(name = "documentController.resumeMultipartUpload", contextualName = "document-resume-multipart-upload")
+    public Mono<ResponseEntity<MultipartUploadResponse>> resumeMultipartUpload(
+            @PathVariable(name = "id") @NotBlank String id, Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Mono.error(new SecurityException("Authentication required"));
+        }
+
+        return documentService.resumeMultipartUpload(id, authentication.getName())
+            .map(response -> ResponseEntity.ok(response));
+    }
+
+    @Override
+    @PostMapping("/{id}/multipart/complete")
+    @Observed(name = "documentController.completeMultipartUpload", contextualName = "document-complete-multipart-upload")
+    public Mono<ResponseEntity<Void>> completeMultipartUpload(@PathVariable(name = "id") @NotBlank String id,
+            @RequestBody @NotNull List<CompletedPart> parts, Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Mono.error(new SecurityException("Authentication required"));
+        }
+
+        return documentService.completeMultipartUpload(id, parts, authentication.getName())
+            .then(Mono.just(ResponseEntity.accepted().<Void>build()));
+    }
+
+    @Override
+    @DeleteMapping("/{id}/multipart")
+    @Observed(name = "documentController.abortMultipartUpload", contextualName = "document-abort-multipart-upload")
+    public Mono<ResponseEntity<Void>> abortMultipartUpload(@PathVariable(name = "id") @NotBlank String id,
+            Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Mono.error(new SecurityException("Authentication required"));
+        }
+
+        return documentService.abortMultipartUpload(id, authentication.getName())
+            .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
     @Override
     @GetMapping
     @Observed(name = "documentController.getDocuments", contextualName = "document-get-documents")
-    public Mono<ResponseEntity<List<?>>> getDocuments(Authentication authentication) {
+    public Mono<ResponseEntity<List<?>>> getDocuments(
+            @RequestParam(name = "tag", required = false) List<String> tags,
+            @RequestParam(name = "match", defaultValue = "all") String match,
+            Authentication authentication) {
 
         if (authentication == null || authentication.getName() == null) {
             log.warn("Unauthorized access attempt - missing or invalid authentication");
@@ -62,11 +155,94 @@ public class DocumentController implements DocumentApi {
         }
         
         String userId = authentication.getName();
-        return documentService.getDocuments(userId)
+        if (tags == null || tags.isEmpty()) {
+            return documentService.getDocuments(userId)
+                .collectList()
+                .map(response -> ResponseEntity.ok(response));
+        }
+        if (!"all".equalsIgnoreCase(match) && !"any".equalsIgnoreCase(match)) {
+            return Mono.error(new IllegalArgumentException("Tag match must be 'all' or 'any'"));
+        }
+
+        return documentService.getDocumentsByTags(userId, tags, "all".equalsIgnoreCase(match))
             .collectList()
             .map(response -> ResponseEntity.ok(response));
     }
 
+    @Override
+    @GetMapping("/page")
+    @Observed(name = "documentController.getDocumentsPage", contextualName = "document-get-documents-page")
+    public Mono<ResponseEntity<DocumentPageResponse>> getDocumentsPage(
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            Authentication authentication) {
+
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Mono.error(new SecurityException("Authentication required"));
+        }
+
+        String userId = authentication.getName();
+        return documentService.getDocumentsPage(userId, size, cursor)
+            .map(response -> ResponseEntity.ok(response));
+    }
+
+    @Override
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DocumentResponse> streamDocuments(Authentication authentication) {
+
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Flux.error(new SecurityException("Authentication required"));
+        }
+
+        return documentService.streamDocuments(authentication.getName());
+    }
+
+    @Override
+    @GetMapping("/stats")
+    @Observed(name = "documentController.getDocumentStats", contextualName = "document-get-stats")
+    public Mono<ResponseEntity<DocumentStatsResponse>> getDocumentStats(Authentication authentication) {
+
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Mono.error(new SecurityException("Authentication required"));
+        }
+
+        return documentStatsService.getStats(authentication.getName())
+            .map(response -> ResponseEntity.ok(response));
+    }
+
+    @Override
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<DocumentStatusEvent>> streamStatusEvents(Authentication authentication) {
+
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Flux.error(new SecurityException("Authentication required"));
+        }
+
+        // heartbeats keep idle streams open through proxies and reveal dead clients; they stop with the events
+        return documentService.streamStatusEvents(authentication.getName())
+            .publish(events -> Flux.merge(
+                events.map(event -> ServerSentEvent.builder(event).build()),
+                Flux.interval(heartbeatInterval)
+                    .map(tick -> ServerSentEvent.<DocumentStatusEvent>builder().comment("heartbeat").build())
+                    .takeUntilOther(events.then())));
+    }
+
+    @Override
+    @GetMapping(value = "/events", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DocumentStatusEvent> streamStatusEventsAsJson(Authentication authentication) {
+
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Flux.error(new SecurityException("Authentication required"));
+        }
+
+        return documentService.streamStatusEvents(authentication.getName());
+    }
+
     @Override
     @GetMapping("/{id}")
     @Observed(name = "documentController.getDocumentById", contextualName = "document-get-by-id")
@@ -85,6 +261,31 @@ public class DocumentController implements DocumentApi {
             .then(Mono.just(ResponseEntity.noContent().<Void>build()));
     }
 
+    @Override
+    @PostMapping(value = "/delete/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Observed(name = "documentController.deleteDocuments", contextualName = "document-delete-batch")
+    public Flux<BulkDeleteProgress> deleteDocuments(@RequestBody @NotNull List<String> documentIds,
+            Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Flux.error(new SecurityException("Authentication required"));
+        }
+
+        return documentService.deleteDocuments(documentIds, authentication.getName());
+    }
+
+    @Override
+    @DeleteMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Observed(name = "documentController.deleteAllDocuments", contextualName = "document-delete-all")
+    public Flux<BulkDeleteProgress> deleteAllDocuments(Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt - missing or invalid authentication");
+            return Flux.error(new SecurityException("Authentication required"));
+        }
+
+        return documentService.deleteAllDocuments(authentication.getName());
+    }
+
     @Override
     @GetMapping("/health")
     public Mono<ResponseEntity<String>> healthCheck() {
@@ -0,0 +1,37 @@
+package io.aurasage.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Cumulative progress of a bulk delete, emitted once per processed chunk
+ * and a final time with {@code completed} set.
+ */
+@Schema(name = "BulkDeleteProgress", description = "Cumulative progress of a bulk document deletion")
+@Setter
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteProgress {
+
+    @Schema(description = "Number of documents deleted so far")
+    private long deleted;
+
+    @Schema(description = "Number of storage cleanup events published so far")
+    private long eventsPublished;
+
+    @Schema(description = "Whether the bulk delete has finished")
+    private boolean completed;
+
+    public BulkDeleteProgress add(long deletedInChunk, long eventsPublishedInChunk) {
+        return toBuilder()
+                .deleted(deleted + deletedInChunk)
+                .eventsPublished(eventsPublished + eventsPublishedInChunk)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package io.aurasage.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Uploaded part of a multipart upload.
+ *
+ * @param partNumber part number, starting at 1
+ * @param eTag       {@code ETag} returned by storage for the part upload
+ */
+@Schema(name = "CompletedPart", description = "Part number and ETag of an uploaded part")
+public record CompletedPart(
+        @Schema(description = "Part number, starting at 1", example = "1") int partNumber,
+        @Schema(description = "ETag header returned by the part upload", example = "\"9e107d9d372bb6826bd81d3542a419d6\"") String eTag) {
+}
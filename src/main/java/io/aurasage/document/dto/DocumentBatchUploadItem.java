@@ -0,0 +1,40 @@
+package io.aurasage.document.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of a single document in a batch upload initialization.
+ * Either {@code presignedUrl} or {@code error} is set.
+ */
+@Schema(name = "DocumentBatchUploadItem", description = "Upload initialization result for one document of a batch")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentBatchUploadItem {
+
+    @Schema(description = "Position of the document in the request list", example = "0")
+    private int index;
+
+    @Schema(description = "Identifier of the created document, absent if it was not created",
+        example = "doc_12345678-1234-1234-1234-123456789abc")
+    private String id;
+
+    @Schema(description = "Presigned URL for uploading the file")
+    private String presignedUrl;
+
+    @Schema(description = "Whether the document was linked to an already stored file with the same content, so no upload is needed")
+    private Boolean duplicate;
+
+    @Schema(description = "Reason the document could not be initialized")
+    private String error;
+}
@@ -0,0 +1,32 @@
+package io.aurasage.document.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for a batch upload initialization.
+ * Items are returned in the same order as the requested documents.
+ */
+@Schema(name = "DocumentBatchUploadResponse", description = "Per-document results of a batch upload initialization")
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentBatchUploadResponse {
+
+    @Schema(description = "Result for each requested document, in request order")
+    private List<DocumentBatchUploadItem> items;
+
+    @Schema(description = "Number of documents initialized successfully")
+    private long succeeded;
+
+    @Schema(description = "Number of documents that failed")
+    private long failed;
+}
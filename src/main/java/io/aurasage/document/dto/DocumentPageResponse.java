@@ -0,0 +1,33 @@
+package io.aurasage.document.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for a page of documents.
+ * Pages are ordered newest first by upload date; the next page is requested
+ * by passing {@code nextCursor} back as the {@code cursor} parameter.
+ */
+@Schema(name = "DocumentPageResponse", description = "A page of documents with an opaque continuation token")
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentPageResponse {
+
+    @Schema(description = "Documents in this page, newest first")
+    private List<DocumentResponse> items;
+
+    @Schema(description = "Opaque token for the next page, absent on the last page", nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "Whether more documents are available after this page")
+    private boolean hasMore;
+}
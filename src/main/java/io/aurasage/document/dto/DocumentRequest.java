@@ -104,4 +104,19 @@ public class DocumentRequest {
     )
     private Set<String> tags;
 
+    /**
+     * Optional content hash of the file, in the same form as the storage ETag (hex MD5 for
+     * single-part uploads). When the owner already has an uploaded document with this hash,
+     * the new document is linked to the stored object and no upload is needed.
+     *
+     * @example "9e107d9d372bb6826bd81d3542a419d6"
+     */
+    @Schema(
+        description = "Content hash matching the storage ETag; lets the upload be skipped for duplicates",
+        example = "9e107d9d372bb6826bd81d3542a419d6",
+        required = false,
+        nullable = true
+    )
+    private String fileHash;
+
 }
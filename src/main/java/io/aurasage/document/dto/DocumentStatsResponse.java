@@ -0,0 +1,45 @@
+package io.aurasage.document.dto;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Aggregate statistics of the authenticated user's documents.
+ */
+@Schema(
+    name = "DocumentStatsResponse",
+    description = "Aggregate statistics of the user's documents",
+    example = """
+        {
+          "documentCount": 42,
+          "totalBytes": 73400320,
+          "byStatus": { "UPLOADED": 40, "PENDING_UPLOAD": 2 },
+          "byContentType": { "application/pdf": 30, "image/png": 12 }
+        }
+        """
+)
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentStatsResponse {
+
+    @Schema(description = "Total number of documents", example = "42")
+    private long documentCount;
+
+    @Schema(description = "Total size of all documents in bytes", example = "73400320")
+    private long totalBytes;
+
+    @Schema(description = "Number of documents per status")
+    private Map<String, Long> byStatus;
+
+    @Schema(description = "Number of documents per content type")
+    private Map<String, Long> byContentType;
+}
@@ -0,0 +1,39 @@
+package io.aurasage.document.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Status change of a document, pushed to subscribers of the owner's event stream.
+ */
+@Schema(name = "DocumentStatusEvent", description = "Status change of a document")
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentStatusEvent {
+
+    public static final String DELETED = "DELETED";
+
+    @Schema(description = "Unique document identifier", example = "doc_12345678-1234-1234-1234-123456789abc")
+    private String id;
+
+    @Schema(description = "New document status", example = "UPLOADED",
+        allowableValues = {"PENDING_UPLOAD", "UPLOADED", "DELETED"})
+    private String status;
+
+    @Schema(description = "Time the change was observed", format = "date-time")
+    private Instant timestamp;
+
+    @JsonIgnore
+    private String ownerId;
+}
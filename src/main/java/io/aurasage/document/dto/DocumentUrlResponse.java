@@ -1,5 +1,7 @@
 package io.aurasage.document.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,4 +16,7 @@ import lombok.Setter;
 public class DocumentUrlResponse {
     private String id;
     private String presignedUrl;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean duplicate;
 }
@@ -0,0 +1,23 @@
+package io.aurasage.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(name = "MultipartUploadPart", description = "Presigned upload URL of one part of a multipart upload")
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartUploadPart {
+
+    @Schema(description = "Part number, starting at 1", example = "1")
+    private int partNumber;
+
+    @Schema(description = "Presigned URL for uploading the part with PUT")
+    private String presignedUrl;
+}
@@ -0,0 +1,55 @@
+package io.aurasage.document.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Multipart upload session of a new document.
+ *
+ * <p>Every part except the last has exactly {@code partSize} bytes. Parts can be uploaded in
+ * parallel and in any order; the {@code ETag} response header of each part upload is needed
+ * to complete the upload.</p>
+ */
+@Schema(
+    name = "MultipartUploadResponse",
+    description = "Multipart upload session with one presigned URL per part",
+    example = """
+        {
+          "id": "doc_12345678-1234-1234-1234-123456789abc",
+          "partSize": 67108864,
+          "parts": [
+            { "partNumber": 1, "presignedUrl": "https://bucket.s3.amazonaws.com/..." },
+            { "partNumber": 2, "presignedUrl": "https://bucket.s3.amazonaws.com/..." }
+          ]
+        }
+        """
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartUploadResponse {
+
+    @Schema(description = "Identifier of the created document",
+        example = "doc_12345678-1234-1234-1234-123456789abc")
+    private String id;
+
+    @Schema(description = "Size of every part except the last, in bytes", example = "67108864")
+    private Long partSize;
+
+    @Schema(description = "Upload URL per part, ordered by part number")
+    private List<MultipartUploadPart> parts;
+
+    @Schema(description = "Whether the document was linked to an already stored file with the same content, so no upload is needed")
+    private Boolean duplicate;
+}
@@ -0,0 +1,22 @@
+package io.aurasage.document.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per-record outcome of processing a batch of storage upload notifications.
+ * A record fails when it cannot be parsed or no matching document is updated.
+ */
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadProcessingResult {
+    private int records;
+    private long succeeded;
+    private long failed;
+}
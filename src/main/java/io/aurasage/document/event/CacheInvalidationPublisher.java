@@ -0,0 +1,10 @@
+package io.aurasage.document.event;
+
+/**
+ * Broadcasts metadata cache invalidations to every replica.
+ */
+public interface CacheInvalidationPublisher {
+
+    void publish(DocumentCacheInvalidatedEvent event);
+
+}
@@ -0,0 +1,12 @@
+package io.aurasage.document.event;
+
+import java.util.List;
+
+/**
+ * Broadcast when document metadata changes so that every replica drops its cached copy.
+ *
+ * @param originId    instance that published the invalidation and has already applied it
+ * @param documentIds ids of the changed documents
+ */
+public record DocumentCacheInvalidatedEvent(String originId, List<String> documentIds) {
+}
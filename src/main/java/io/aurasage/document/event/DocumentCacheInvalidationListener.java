@@ -0,0 +1,46 @@
+package io.aurasage.document.event;
+
+import java.io.IOException;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.aurasage.document.cache.DocumentMetadataCache;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies metadata cache invalidations broadcast by other replicas, read from this instance's
+ * own queue on the invalidation fanout exchange.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aurasage.document.metadata-cache.broadcast", havingValue = "true", matchIfMissing = true)
+public class DocumentCacheInvalidationListener {
+
+    private final DocumentMetadataCache documentMetadataCache;
+    private final ObjectMapper objectMapper;
+
+    public DocumentCacheInvalidationListener(DocumentMetadataCache documentMetadataCache, ObjectMapper objectMapper) {
+        this.documentMetadataCache = documentMetadataCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(queues = "#{documentCacheInvalidationQueue.name}")
+    public void consume(Message message) {
+        DocumentCacheInvalidatedEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), DocumentCacheInvalidatedEvent.class);
+        } catch (IOException e) {
+            log.warn("Dropping unreadable cache invalidation: {}", e.getMessage());
+            return;
+        }
+        log.debug("Received cache invalidation for {} documents from {}",
+                event.documentIds() == null ? 0 : event.documentIds().size(), event.originId());
+        documentMetadataCache.onInvalidated(event);
+    }
+
+}
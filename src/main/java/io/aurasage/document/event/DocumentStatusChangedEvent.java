@@ -0,0 +1,17 @@
+package io.aurasage.document.event;
+
+import java.time.Instant;
+
+/**
+ * Broadcast when a document changes status so that every replica can push it to the owner's
+ * event streams it holds.
+ *
+ * @param originId   instance that published the change and has already pushed it to its own subscribers
+ * @param documentId id of the changed document
+ * @param ownerId    owner of the document
+ * @param status     new status
+ * @param timestamp  time the change was observed
+ */
+public record DocumentStatusChangedEvent(String originId, String documentId, String ownerId, String status,
+        Instant timestamp) {
+}
@@ -0,0 +1,43 @@
+package io.aurasage.document.event;
+
+import java.io.IOException;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes status changes broadcast by other replicas to the event streams held by this instance,
+ * read from this instance's own queue on the status fanout exchange.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aurasage.document.status-events.broadcast", havingValue = "true", matchIfMissing = true)
+public class DocumentStatusEventListener {
+
+    private final DocumentStatusStream documentStatusStream;
+    private final ObjectMapper objectMapper;
+
+    public DocumentStatusEventListener(DocumentStatusStream documentStatusStream, ObjectMapper objectMapper) {
+        this.documentStatusStream = documentStatusStream;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(queues = "#{documentStatusEventQueue.name}")
+    public void consume(Message message) {
+        DocumentStatusChangedEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), DocumentStatusChangedEvent.class);
+        } catch (IOException e) {
+            log.warn("Dropping unreadable status event: {}", e.getMessage());
+            return;
+        }
+        documentStatusStream.onBroadcast(event);
+    }
+
+}
@@ -0,0 +1,116 @@
+package io.aurasage.document.event;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.aurasage.document.dto.DocumentStatusEvent;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Fan-out of document status changes to the owners' event streams.
+ *
+ * <p>Every subscriber gets its own bounded buffer. A subscriber that falls further behind
+ * than that is disconnected and expected to reconnect and re-read current state, so a slow
+ * client never holds back publishers or other subscribers. Changes applied by this node are
+ * pushed to its subscribers directly and broadcast to the other replicas, which push them to
+ * theirs; without a broadcast publisher only changes applied by this node are seen.</p>
+ */
+@Slf4j
+@Component
+public class DocumentStatusStream {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Sinks.Many<DocumentStatusEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final StatusEventPublisher statusEventPublisher;
+    private final BlockingCalls blockingCalls;
+    private final int subscriberBuffer;
+    private final Duration emitTimeout;
+    private final Counter published;
+    private final Counter droppedSubscribers;
+
+    public DocumentStatusStream(ObjectProvider<StatusEventPublisher> statusEventPublisher,
+            BlockingCalls blockingCalls, MeterRegistry meterRegistry,
+            @Value("${aurasage.document.status-events.subscriber-buffer:256}") int subscriberBuffer,
+            @Value("${aurasage.document.status-events.emit-timeout:100ms}") Duration emitTimeout) {
+        this.statusEventPublisher = statusEventPublisher.getIfAvailable();
+        this.blockingCalls = blockingCalls;
+        this.subscriberBuffer = subscriberBuffer;
+        this.emitTimeout = emitTimeout;
+        this.published = meterRegistry.counter("aurasage.document.status-events.published");
+        this.droppedSubscribers = meterRegistry.counter("aurasage.document.status-events.dropped-subscribers");
+        meterRegistry.gauge("aurasage.document.status-events.subscribers", sink, Sinks.Many::currentSubscriberCount);
+    }
+
+    /**
+     * Pushes a change applied by this node to its subscribers and broadcasts it to other replicas.
+     */
+    public void publish(DocumentStatusEvent event) {
+        deliver(event);
+
+        if (statusEventPublisher != null) {
+            // the broker send blocks, and status changes happen on the event loop
+            DocumentStatusChangedEvent changed = new DocumentStatusChangedEvent(instanceId, event.getId(),
+                    event.getOwnerId(), event.getStatus(), event.getTimestamp());
+            blockingCalls.run(() -> statusEventPublisher.publish(changed))
+                    .subscribe(null, error -> log.warn("Failed to broadcast status event for document {}: {}",
+                            changed.documentId(), error.getMessage()));
+        }
+    }
+
+    /**
+     * Pushes a change broadcast by another replica to this node's subscribers.
+     */
+    public void onBroadcast(DocumentStatusChangedEvent event) {
+        if (instanceId.equals(event.originId())) {
+            return;
+        }
+        deliver(DocumentStatusEvent.builder()
+                .id(event.documentId())
+                .ownerId(event.ownerId())
+                .status(event.status())
+                .timestamp(event.timestamp())
+                .build());
+    }
+
+    private void deliver(DocumentStatusEvent event) {
+        if (sink.currentSubscriberCount() == 0) {
+            return;
+        }
+        try {
+            // serializes concurrent publishers; subscribers never slow this down since each has its own buffer
+            sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(emitTimeout));
+            published.increment();
+        } catch (Sinks.EmissionException e) {
+            log.warn("Failed to publish status event for document {}: {}", event.getId(), e.getMessage());
+        }
+    }
+
+    public Flux<DocumentStatusEvent> subscribe(String ownerId) {
+        return sink.asFlux()
+                .filter(event -> ownerId.equals(event.getOwnerId()))
+                .onBackpressureBuffer(subscriberBuffer, BufferOverflowStrategy.ERROR)
+                .onErrorResume(Exceptions::isOverflow, error -> {
+                    log.warn("Dropping slow document event subscriber for user {}", ownerId);
+                    droppedSubscribers.increment();
+                    return Flux.empty();
+                });
+    }
+
+    @PreDestroy
+    void stop() {
+        sink.tryEmitComplete();
+    }
+
+}
@@ -1,42 +1,146 @@
 package io.aurasage.document.event;
 
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.aurasage.document.service.DocumentService;
 import io.aurasage.events.common.EventConsumer;
 import io.aurasage.events.common.QueueName;
 import io.aurasage.events.dto.StorageEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
 
+/**
+ * Consumes storage upload notifications in micro-batches.
+ *
+ * <p>Each received event is queued into a bounded buffer and grouped into batches by size
+ * or time window; every batch becomes one bulk status update. {@link #consume} blocks
+ * until the write for its event has completed, so a message is only acknowledged once it
+ * has been applied, and fails when the write fails or the buffer stays full.</p>
+ */
 @Slf4j
 @Component
 @QueueName("storage.queue")
 public class DocumentUploadedEventListener implements EventConsumer<StorageEvent> {
 
-    private static final String UPLOAD_EVENT = "s3:ObjectCreated:Put";
+    // single-request uploads and assembled multipart uploads
+    private static final Set<String> UPLOAD_EVENTS = Set.of("s3:ObjectCreated:Put",
+            "s3:ObjectCreated:CompleteMultipartUpload");
+
+    private static final long ENQUEUE_RETRY_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
 
     private final DocumentService documentService;
 
+    @Value("${aurasage.document.upload-events.batch-size:32}")
+    private int batchSize;
+
+    @Value("${aurasage.document.upload-events.batch-window:50ms}")
+    private Duration batchWindow;
+
+    @Value("${aurasage.document.upload-events.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${aurasage.document.upload-events.prefetch:256}")
+    private int prefetch;
+
+    @Value("${aurasage.document.upload-events.enqueue-timeout:5s}")
+    private Duration enqueueTimeout;
+
+    @Value("${aurasage.document.upload-events.write-timeout:30s}")
+    private Duration writeTimeout;
+
+    private Sinks.Many<PendingEvent> pendingEvents;
+    private Disposable subscription;
+
     public DocumentUploadedEventListener(DocumentService documentService) {
         this.documentService = documentService;
     }
 
+    @PostConstruct
+    void start() {
+        pendingEvents = Sinks.many().unicast().onBackpressureBuffer(Queues.<PendingEvent>get(prefetch).get());
+        subscription = pendingEvents.asFlux()
+            .bufferTimeout(batchSize, batchWindow, true)
+            .flatMap(this::processBatch, maxConcurrency)
+            .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        pendingEvents.tryEmitComplete();
+        subscription.dispose();
+    }
+
 	@Override
 	public void consume(StorageEvent event) {
 		log.info("Received StorageEvent: {}", event);
         
-        if (!UPLOAD_EVENT.equals(event.getEventName())) {
+        if (event.getEventName() == null || !UPLOAD_EVENTS.contains(event.getEventName())) {
             log.warn("Unhandled event type: {}", event.getEventName());
             return;
         }
 
-        documentService.processDocumentUploadedEvent(event)
-            .subscribe(
-                null, // onNext not needed for Mono<Void>
-                error -> log.error("Event processing failed: {}", error.getMessage())
-            );
+        PendingEvent pending = new PendingEvent(event, new CompletableFuture<>());
+        enqueue(pending);
 
+        try {
+            pending.written().get(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for upload event to be processed", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Upload event processing failed", e);
+        }
 	}
 
+    /**
+     * Waits while the buffer is full or another thread is emitting, up to the enqueue timeout,
+     * so a burst holds back the consumer threads instead of failing messages. Uses
+     * {@code tryEmitNext}: an overflow in {@code emitNext} would terminate the sink.
+     */
+    private void enqueue(PendingEvent pending) {
+        long deadline = System.nanoTime() + enqueueTimeout.toNanos();
+        while (true) {
+            Sinks.EmitResult result = pendingEvents.tryEmitNext(pending);
+            if (result.isSuccess()) {
+                return;
+            }
+            boolean retryable = result == Sinks.EmitResult.FAIL_OVERFLOW
+                    || result == Sinks.EmitResult.FAIL_NON_SERIALIZED;
+            if (!retryable || System.nanoTime() - deadline >= 0) {
+                throw new IllegalStateException("Upload event could not be queued: " + result);
+            }
+            LockSupport.parkNanos(ENQUEUE_RETRY_INTERVAL_NANOS);
+        }
+    }
+
+    private Mono<Void> processBatch(List<PendingEvent> batch) {
+        return documentService.processDocumentUploadedEvents(batch.stream().map(PendingEvent::event).toList())
+            .doOnSuccess(result -> batch.forEach(pending -> pending.written().complete(null)))
+            .doOnError(error -> {
+                log.error("Event batch processing failed: {}", error.getMessage());
+                batch.forEach(pending -> pending.written().completeExceptionally(error));
+            })
+            .then()
+            .onErrorComplete();
+    }
+
+    private record PendingEvent(StorageEvent event, CompletableFuture<Void> written) {
+    }
+
 }
@@ -0,0 +1,107 @@
+package io.aurasage.document.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.aurasage.document.metrics.DocumentPipelineMetrics;
+import io.aurasage.document.repository.OutboxEvent;
+import io.aurasage.document.repository.OutboxStore;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.aurasage.events.common.EventBus;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Publishes domain events through an outbox.
+ *
+ * <p>With an {@link OutboxStore} events are only written locally, in the same transaction as
+ * the change that raised them, and the {@code OutboxRelay} publishes them to the event bus in
+ * batches, retrying until the bus accepts them. An outbox store therefore requires a
+ * {@link TransactionalOperator}. Without a store events are published directly.</p>
+ */
+@Slf4j
+@Component
+public class DomainEventOutbox {
+
+    private final OutboxStore outboxStore;
+    private final TransactionalOperator transactionalOperator;
+    private final EventBus eventBus;
+    private final BlockingCalls blockingCalls;
+    private final ObjectMapper objectMapper;
+    private final DocumentPipelineMetrics pipelineMetrics;
+
+    public DomainEventOutbox(ObjectProvider<OutboxStore> outboxStore,
+            ObjectProvider<TransactionalOperator> transactionalOperator, EventBus eventBus,
+            BlockingCalls blockingCalls, ObjectMapper objectMapper, DocumentPipelineMetrics pipelineMetrics) {
+        this.outboxStore = outboxStore.getIfAvailable();
+        this.transactionalOperator = transactionalOperator.getIfUnique();
+        if (this.outboxStore != null && this.transactionalOperator == null) {
+            throw new IllegalStateException("The domain event outbox requires a unique TransactionalOperator; "
+                    + "configure one or set aurasage.document.outbox.enabled=false");
+        }
+        this.eventBus = eventBus;
+        this.blockingCalls = blockingCalls;
+        this.objectMapper = objectMapper;
+        this.pipelineMetrics = pipelineMetrics;
+        log.info("Publishing domain events {}", this.outboxStore != null ? "through the outbox" : "directly");
+    }
+
+    public boolean isEnabled() {
+        return outboxStore != null;
+    }
+
+    /**
+     * Runs the change and the outbox writes it makes in one transaction.
+     */
+    public <T> Mono<T> transactional(Mono<T> change) {
+        return outboxStore != null ? change.as(transactionalOperator::transactional) : change;
+    }
+
+    public Mono<Void> publish(String routingKey, List<?> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        if (outboxStore == null) {
+            return blockingCalls.run(() -> events.forEach(event -> eventBus.publish(routingKey, event)))
+                    .transform(pipelineMetrics.timed(DocumentPipelineMetrics.EVENT_PUBLISH));
+        }
+
+        return Mono.fromCallable(() -> {
+                    Instant now = Instant.now();
+                    return events.stream()
+                            .map(event -> new OutboxEvent(UUID.randomUUID().toString(), routingKey,
+                                    event.getClass().getName(), serialize(event), now, 0, now))
+                            .toList();
+                })
+                .flatMap(outboxStore::saveAll)
+                .transform(pipelineMetrics.timed(DocumentPipelineMetrics.EVENT_PUBLISH));
+    }
+
+    /**
+     * @throws IllegalArgumentException when the payload cannot be read back
+     */
+    public Object payloadOf(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.payload(), Class.forName(event.payloadType()));
+        } catch (JsonProcessingException | ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unreadable outbox event " + event.id(), e);
+        }
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event cannot be serialized: " + event.getClass().getName(), e);
+        }
+    }
+
+}
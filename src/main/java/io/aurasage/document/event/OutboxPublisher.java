@@ -0,0 +1,19 @@
+package io.aurasage.document.event;
+
+import java.util.List;
+
+import io.aurasage.document.repository.OutboxEvent;
+
+/**
+ * Publishes outbox events to the broker for the {@code OutboxRelay}.
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Publishes the events and returns once the broker has confirmed all of them. Blocks.
+     *
+     * @throws RuntimeException when any event was not confirmed; none of the batch counts as published
+     */
+    void publishConfirmed(List<OutboxEvent> events);
+
+}
@@ -0,0 +1,44 @@
+package io.aurasage.document.event;
+
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Publishes invalidations to a fanout exchange, so every replica's own queue receives a copy.
+ * Invalidations are only useful to running replicas and are sent non-persistent.
+ */
+public class RabbitCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final FanoutExchange exchange;
+    private final ObjectMapper objectMapper;
+
+    public RabbitCacheInvalidationPublisher(RabbitTemplate rabbitTemplate, FanoutExchange exchange,
+            ObjectMapper objectMapper) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(DocumentCacheInvalidatedEvent event) {
+        Message message;
+        try {
+            message = MessageBuilder.withBody(objectMapper.writeValueAsBytes(event))
+                    .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                    .setDeliveryMode(MessageDeliveryMode.NON_PERSISTENT)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize cache invalidation", e);
+        }
+        rabbitTemplate.send(exchange.getName(), "", message);
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.aurasage.document.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import io.aurasage.document.repository.OutboxEvent;
+
+/**
+ * Publishes a batch of outbox events on one channel and waits for the broker to confirm them
+ * all, so the relay only removes events RabbitMQ has taken responsibility for.
+ *
+ * <p>Payloads are sent as stored, JSON with the event class in the {@code __TypeId__} header
+ * as the Jackson message converter reads it, and the outbox id as message id so consumers can
+ * drop the duplicates a retried batch may produce. Requires
+ * {@code spring.rabbitmq.publisher-confirm-type=simple}.</p>
+ */
+public class RabbitOutboxPublisher implements OutboxPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final Duration confirmTimeout;
+
+    public RabbitOutboxPublisher(RabbitTemplate rabbitTemplate, String exchange, Duration confirmTimeout) {
+        if (!rabbitTemplate.getConnectionFactory().isSimplePublisherConfirms()) {
+            throw new IllegalStateException("The outbox relay needs publisher confirms; "
+                    + "set spring.rabbitmq.publisher-confirm-type=simple");
+        }
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public void publishConfirmed(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxEvent event : events) {
+                operations.send(exchange, event.routingKey(), message(event));
+            }
+            // throws when a message is nacked or the confirms do not arrive in time
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+    }
+
+    private static Message message(OutboxEvent event) {
+        return MessageBuilder.withBody(event.payload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(event.id())
+                .setHeader("__TypeId__", event.payloadType())
+                .build();
+    }
+
+}
@@ -0,0 +1,10 @@
+package io.aurasage.document.event;
+
+/**
+ * Broadcasts document status changes to every replica.
+ */
+public interface StatusEventPublisher {
+
+    void publish(DocumentStatusChangedEvent event);
+
+}
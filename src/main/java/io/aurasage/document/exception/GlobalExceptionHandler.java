@@ -12,6 +12,7 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
 
 import io.aurasage.core.model.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +50,9 @@ public class GlobalExceptionHandler extends AbstractErrorWebExceptionHandler {
         } else if (error instanceof SecurityException) {
             status = HttpStatus.UNAUTHORIZED;
             message = error.getMessage();
+        } else if (error instanceof ResponseStatusException responseStatusException) {
+            status = HttpStatus.valueOf(responseStatusException.getStatusCode().value());
+            message = responseStatusException.getReason();
         }
 
         log.error("{}", message);
@@ -0,0 +1,171 @@
+package io.aurasage.document.job;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.aurasage.document.event.DomainEventOutbox;
+import io.aurasage.document.event.OutboxPublisher;
+import io.aurasage.document.repository.JobLockStore;
+import io.aurasage.document.repository.OutboxEvent;
+import io.aurasage.document.repository.OutboxStore;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Publishes due outbox events to the event bus.
+ *
+ * <p>One instance relays at a time, guarded by a lease lock. Events are read in batches, each
+ * batch is published on one channel and removed from the outbox with one delete once the broker
+ * has confirmed all of it. Delivery is at least once: a batch that is not confirmed stays in the
+ * outbox and is retried with exponential backoff, including events the broker may already have
+ * routed. Events that cannot be read back are dropped.</p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    static final String LOCK_NAME = "outbox-relay";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final OutboxStore outboxStore;
+    private final DomainEventOutbox domainEventOutbox;
+    private final OutboxPublisher outboxPublisher;
+    private final BlockingCalls blockingCalls;
+    private final JobLockStore jobLockStore;
+    private final Counter published;
+    private final Counter failed;
+    private final Counter dropped;
+
+    @Value("${aurasage.document.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${aurasage.document.outbox.relay.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${aurasage.document.outbox.relay.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    @Value("${aurasage.document.outbox.relay.max-retry-backoff:5m}")
+    private Duration maxRetryBackoff;
+
+    @Value("${aurasage.document.outbox.relay.lock-lease:1m}")
+    private Duration lockLease;
+
+    public OutboxRelay(ObjectProvider<OutboxStore> outboxStore, DomainEventOutbox domainEventOutbox,
+            ObjectProvider<OutboxPublisher> outboxPublisher, BlockingCalls blockingCalls, JobLockStore jobLockStore,
+            MeterRegistry meterRegistry) {
+        this.outboxStore = outboxStore.getIfAvailable();
+        this.domainEventOutbox = domainEventOutbox;
+        this.outboxPublisher = outboxPublisher.getIfAvailable();
+        if (this.outboxStore != null && this.outboxPublisher == null) {
+            throw new IllegalStateException("The outbox relay requires an OutboxPublisher");
+        }
+        this.blockingCalls = blockingCalls;
+        this.jobLockStore = jobLockStore;
+        this.published = meterRegistry.counter("aurasage.document.outbox.events", "result", "published");
+        this.failed = meterRegistry.counter("aurasage.document.outbox.events", "result", "failed");
+        this.dropped = meterRegistry.counter("aurasage.document.outbox.events", "result", "dropped");
+    }
+
+    @Scheduled(initialDelayString = "${aurasage.document.outbox.relay.initial-delay:5s}",
+            fixedDelayString = "${aurasage.document.outbox.relay.interval:500ms}")
+    public Mono<Void> relayOnSchedule() {
+        if (outboxStore == null) {
+            return Mono.empty();
+        }
+
+        return jobLockStore.tryAcquire(LOCK_NAME, instanceId, lockLease)
+                .filter(acquired -> acquired)
+                .flatMap(acquired -> relay()
+                        .flatMap(count -> jobLockStore.release(LOCK_NAME, instanceId).thenReturn(count))
+                        .onErrorResume(error -> jobLockStore.release(LOCK_NAME, instanceId).then(Mono.error(error))))
+                .filter(count -> count > 0)
+                .doOnNext(count -> log.debug("Relayed {} outbox events", count))
+                .onErrorResume(error -> {
+                    log.warn("Outbox relay failed: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Publishes due events until none are left or the batch limit is reached.
+     *
+     * @return number of events published
+     */
+    public Mono<Long> relay() {
+        // failed events are rescheduled into the future, so every batch reads new events
+        return fetchBatch()
+                .expand(batch -> batch.size() < batchSize ? Mono.empty() : fetchBatch())
+                .take(maxBatchesPerRun)
+                .filter(batch -> !batch.isEmpty())
+                .concatMap(this::relayBatch)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<List<OutboxEvent>> fetchBatch() {
+        return Mono.defer(() -> outboxStore.findDue(Instant.now(), batchSize).collectList());
+    }
+
+    private Mono<Long> relayBatch(List<OutboxEvent> batch) {
+        return blockingCalls.call(() -> {
+                    List<String> unreadable = new ArrayList<>();
+                    List<OutboxEvent> readable = new ArrayList<>();
+                    for (OutboxEvent event : batch) {
+                        try {
+                            domainEventOutbox.payloadOf(event);
+                            readable.add(event);
+                        } catch (IllegalArgumentException e) {
+                            log.error("Dropping outbox event {}: {}", event.id(), e.getMessage());
+                            dropped.increment();
+                            unreadable.add(event.id());
+                        }
+                    }
+                    if (readable.isEmpty()) {
+                        return new BatchResult(unreadable, List.of(), List.of());
+                    }
+                    try {
+                        outboxPublisher.publishConfirmed(readable);
+                        published.increment(readable.size());
+                        return new BatchResult(unreadable, readable, List.of());
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to publish a batch of {} outbox events: {}", readable.size(), e.getMessage());
+                        failed.increment(readable.size());
+                        return new BatchResult(unreadable, List.of(), readable);
+                    }
+                })
+                .flatMap(result -> outboxStore.deleteAllById(result.done())
+                        .then(Flux.fromIterable(result.retry())
+                                .concatMap(event -> outboxStore.reschedule(event.id(), event.attempts() + 1,
+                                        Instant.now().plus(backoff(event.attempts() + 1))))
+                                .then())
+                        .thenReturn((long) (result.done().size())));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private record BatchResult(List<String> unreadable, List<OutboxEvent> confirmed, List<OutboxEvent> retry) {
+
+        List<String> done() {
+            List<String> done = new ArrayList<>(unreadable);
+            confirmed.forEach(event -> done.add(event.id()));
+            return done;
+        }
+    }
+
+}
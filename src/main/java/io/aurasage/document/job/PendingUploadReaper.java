@@ -0,0 +1,192 @@
+package io.aurasage.document.job;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.document.client.StorageClient;
+import io.aurasage.document.client.StorageKeys;
+import io.aurasage.document.repository.DocumentCursor;
+import io.aurasage.document.repository.JobLockStore;
+import io.aurasage.document.repository.MultipartUpload;
+import io.aurasage.document.repository.MultipartUploadStore;
+import io.aurasage.document.repository.PendingUploadQueries;
+import io.aurasage.document.service.DocumentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deletes documents that stayed {@code PENDING_UPLOAD} for longer than the configured age,
+ * i.e. abandoned uploads and uploads whose completion event was lost.
+ *
+ * <p>One instance at a time runs the job, guarded by a lease lock. Candidates are read in
+ * pages, oldest first, with a pause between pages and a cap on pages per run so the job
+ * never competes with foreground traffic. By default every candidate is checked in storage
+ * first and kept when its object exists, so an upload whose event was lost is not thrown away;
+ * the reconciler completes those. Deleted candidates get a storage delete for their object
+ * key in case the object arrives late. Multipart uploads in progress are kept while their part
+ * URLs were handed out within the maximum age, so a large upload that is resumed is not reaped
+ * under the client.</p>
+ */
+@Slf4j
+@Component
+// pending uploads can only be paged by age with the MongoDB adapter
+@ConditionalOnClass(name = "org.springframework.data.mongodb.core.ReactiveMongoTemplate")
+@ConditionalOnProperty(name = "aurasage.database.type", havingValue = "mongodb", matchIfMissing = true)
+public class PendingUploadReaper {
+
+    static final String LOCK_NAME = "pending-upload-reaper";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final PendingUploadQueries pendingUploadQueries;
+    private final DocumentService documentService;
+    private final StorageClient storageClient;
+    private final JobLockStore jobLockStore;
+    private final MultipartUploadStore multipartUploadStore;
+    private final Counter deleted;
+    private final Counter kept;
+    private final Counter unchecked;
+    private final Counter uploading;
+
+    @Value("${aurasage.document.reaper.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aurasage.document.reaper.max-age:PT24H}")
+    private Duration maxAge;
+
+    @Value("${aurasage.document.reaper.page-size:200}")
+    private int pageSize;
+
+    @Value("${aurasage.document.reaper.max-pages-per-run:50}")
+    private int maxPagesPerRun;
+
+    @Value("${aurasage.document.reaper.page-interval:PT1S}")
+    private Duration pageInterval;
+
+    @Value("${aurasage.document.reaper.check-storage:true}")
+    private boolean checkStorage;
+
+    @Value("${aurasage.document.reaper.storage-check-concurrency:4}")
+    private int storageCheckConcurrency;
+
+    @Value("${aurasage.document.reaper.lock-lease:PT10M}")
+    private Duration lockLease;
+
+    public PendingUploadReaper(PendingUploadQueries pendingUploadQueries, DocumentService documentService,
+            StorageClient storageClient, JobLockStore jobLockStore, MultipartUploadStore multipartUploadStore,
+            MeterRegistry meterRegistry) {
+        this.pendingUploadQueries = pendingUploadQueries;
+        this.documentService = documentService;
+        this.storageClient = storageClient;
+        this.jobLockStore = jobLockStore;
+        this.multipartUploadStore = multipartUploadStore;
+        this.deleted = meterRegistry.counter("aurasage.document.reaper.documents", "result", "deleted");
+        this.kept = meterRegistry.counter("aurasage.document.reaper.documents", "result", "kept");
+        this.unchecked = meterRegistry.counter("aurasage.document.reaper.documents", "result", "unchecked");
+        this.uploading = meterRegistry.counter("aurasage.document.reaper.documents", "result", "uploading");
+    }
+
+    @Scheduled(initialDelayString = "${aurasage.document.reaper.initial-delay:PT10M}",
+            fixedDelayString = "${aurasage.document.reaper.interval:PT15M}")
+    public Mono<Void> reapOnSchedule() {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        return jobLockStore.tryAcquire(LOCK_NAME, instanceId, lockLease)
+                .filter(acquired -> acquired)
+                .flatMap(acquired -> reap()
+                        .flatMap(count -> jobLockStore.release(LOCK_NAME, instanceId).thenReturn(count))
+                        .onErrorResume(error -> jobLockStore.release(LOCK_NAME, instanceId).then(Mono.error(error))))
+                .doOnNext(count -> log.info("Reaped {} stale pending uploads", count))
+                .onErrorResume(error -> {
+                    log.warn("Stale pending upload reaping failed: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Runs one pass over pending uploads older than the maximum age.
+     *
+     * @return number of documents deleted
+     */
+    public Mono<Long> reap() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        Instant activeSince = Instant.now().minus(maxAge);
+
+        return fetchPage(cutoff, null)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : fetchPage(cutoff, DocumentCursor.of(page.get(page.size() - 1)))
+                                .delaySubscription(pageInterval))
+                .take(maxPagesPerRun)
+                .concatMap(page -> withoutActiveMultipartUploads(page, activeSince)
+                        .flatMap(this::withoutStoredObjects)
+                        .flatMap(documentService::deletePendingUploads))
+                .doOnNext(deleted::increment)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<List<AsDocument>> fetchPage(LocalDateTime cutoff, DocumentCursor after) {
+        return pendingUploadQueries.findPendingUploadsBefore(cutoff, after, pageSize).collectList();
+    }
+
+    private Mono<List<AsDocument>> withoutActiveMultipartUploads(List<AsDocument> page, Instant activeSince) {
+        return multipartUploadStore.findAllByDocumentId(page.stream().map(AsDocument::getId).toList())
+                .filter(upload -> upload.status() == MultipartUpload.Status.IN_PROGRESS
+                        && upload.lastActiveAt().isAfter(activeSince))
+                .map(MultipartUpload::documentId)
+                .collect(Collectors.toSet())
+                .map(active -> {
+                    if (active.isEmpty()) {
+                        return page;
+                    }
+                    uploading.increment(active.size());
+                    log.debug("Keeping {} pending documents with multipart uploads in progress", active.size());
+                    return page.stream().filter(document -> !active.contains(document.getId())).toList();
+                });
+    }
+
+    private Mono<List<AsDocument>> withoutStoredObjects(List<AsDocument> page) {
+        if (!checkStorage) {
+            return Mono.just(page);
+        }
+
+        return Flux.fromIterable(page)
+                .flatMapSequential(document -> storageClient.exists(StorageKeys.objectKeyFor(document))
+                        .map(exists -> {
+                            if (exists) {
+                                kept.increment();
+                                log.debug("Keeping pending document {}, its object exists in storage",
+                                        document.getId());
+                                return Optional.<AsDocument>empty();
+                            }
+                            return Optional.of(document);
+                        })
+                        // an unreachable storage service must not lead to deletions
+                        .onErrorResume(error -> {
+                            unchecked.increment();
+                            log.warn("Keeping pending document {}, storage check failed: {}", document.getId(),
+                                    error.getMessage());
+                            return Mono.just(Optional.empty());
+                        }), storageCheckConcurrency)
+                .flatMap(Mono::justOrEmpty)
+                .collectList();
+    }
+
+}
@@ -0,0 +1,260 @@
+package io.aurasage.document.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.document.client.StorageClient;
+import io.aurasage.document.client.StorageKeys;
+import io.aurasage.document.client.StoredObject;
+import io.aurasage.document.client.StoredObjectListing;
+import io.aurasage.document.dto.UploadProcessingResult;
+import io.aurasage.document.repository.DocumentCursor;
+import io.aurasage.document.repository.JobCheckpointStore;
+import io.aurasage.document.repository.JobLockStore;
+import io.aurasage.document.repository.PendingUploadQueries;
+import io.aurasage.document.service.DocumentService;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Completes pending uploads whose object reached storage but whose upload event was lost.
+ *
+ * <p>Pending documents older than the minimum age are walked in pages, oldest first. The
+ * documents of a page are grouped by owner and each owner's objects are listed under the
+ * {@code ownerId/} prefix, from just before the owner's first pending key until the listing
+ * has passed the last one. Documents whose object was found are completed like upload events
+ * complete them.</p>
+ *
+ * <p>One instance at a time runs the job, guarded by a lease lock. Every listing call of a
+ * run, including the follow-up pages of an owner's listing, takes a permit from one rate
+ * limiter, and each run covers a bounded number of pages; the cursor of the last page is
+ * saved as a checkpoint, so the next run, on any instance, resumes there. A pass that reaches
+ * the end clears the checkpoint and the next one starts over.</p>
+ */
+@Slf4j
+@Component
+// pending uploads can only be paged by age with the MongoDB adapter
+@ConditionalOnClass(name = "org.springframework.data.mongodb.core.ReactiveMongoTemplate")
+@ConditionalOnProperty(name = "aurasage.database.type", havingValue = "mongodb", matchIfMissing = true)
+public class PendingUploadReconciler {
+
+    static final String JOB_NAME = "pending-upload-reconciler";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final PendingUploadQueries pendingUploadQueries;
+    private final DocumentService documentService;
+    private final StorageClient storageClient;
+    private final JobLockStore jobLockStore;
+    private final JobCheckpointStore jobCheckpointStore;
+    private final Counter checked;
+    private final Counter promoted;
+    private final Counter listingsFailed;
+    private final Counter listingsTruncated;
+
+    @Value("${aurasage.document.reconciler.enabled:false}")
+    private boolean enabled;
+
+    @Value("${aurasage.document.reconciler.min-age:PT10M}")
+    private Duration minAge;
+
+    @Value("${aurasage.document.reconciler.page-size:500}")
+    private int pageSize;
+
+    @Value("${aurasage.document.reconciler.max-pages-per-run:100}")
+    private int maxPagesPerRun;
+
+    @Value("${aurasage.document.reconciler.page-interval:PT1S}")
+    private Duration pageInterval;
+
+    @Value("${aurasage.document.reconciler.listings-per-second:20}")
+    private int listingsPerSecond;
+
+    @Value("${aurasage.document.reconciler.listing-concurrency:4}")
+    private int listingConcurrency;
+
+    @Value("${aurasage.document.reconciler.listing-page-size:1000}")
+    private int listingPageSize;
+
+    @Value("${aurasage.document.reconciler.max-listing-pages-per-owner:20}")
+    private int maxListingPagesPerOwner;
+
+    @Value("${aurasage.document.reconciler.lock-lease:PT15M}")
+    private Duration lockLease;
+
+    public PendingUploadReconciler(PendingUploadQueries pendingUploadQueries, DocumentService documentService,
+            StorageClient storageClient, JobLockStore jobLockStore, JobCheckpointStore jobCheckpointStore,
+            MeterRegistry meterRegistry) {
+        this.pendingUploadQueries = pendingUploadQueries;
+        this.documentService = documentService;
+        this.storageClient = storageClient;
+        this.jobLockStore = jobLockStore;
+        this.jobCheckpointStore = jobCheckpointStore;
+        this.checked = meterRegistry.counter("aurasage.document.reconciler.documents", "result", "checked");
+        this.promoted = meterRegistry.counter("aurasage.document.reconciler.documents", "result", "promoted");
+        this.listingsFailed = meterRegistry.counter("aurasage.document.reconciler.listings", "result", "failed");
+        this.listingsTruncated = meterRegistry.counter("aurasage.document.reconciler.listings", "result", "truncated");
+    }
+
+    @Scheduled(initialDelayString = "${aurasage.document.reconciler.initial-delay:PT2M}",
+            fixedDelayString = "${aurasage.document.reconciler.interval:PT5M}")
+    public Mono<Void> reconcileOnSchedule() {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        return jobLockStore.tryAcquire(JOB_NAME, instanceId, lockLease)
+                .filter(acquired -> acquired)
+                .flatMap(acquired -> reconcile()
+                        .flatMap(count -> jobLockStore.release(JOB_NAME, instanceId).thenReturn(count))
+                        .onErrorResume(error -> jobLockStore.release(JOB_NAME, instanceId).then(Mono.error(error))))
+                .doOnNext(count -> log.info("Reconciled {} pending uploads found in storage", count))
+                .onErrorResume(error -> {
+                    log.warn("Pending upload reconciliation failed: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Runs one bounded pass from the saved checkpoint.
+     *
+     * @return number of documents completed
+     */
+    public Mono<Long> reconcile() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        RateLimiter listingLimiter = listingLimiter();
+
+        return loadCheckpoint()
+                .flatMap(start -> fetchPage(cutoff, start.orElse(null))
+                        .expand(page -> page.size() < pageSize
+                                ? Mono.empty()
+                                : fetchPage(cutoff, DocumentCursor.of(page.get(page.size() - 1)))
+                                        .delaySubscription(pageInterval))
+                        .take(maxPagesPerRun)
+                        .concatMap(page -> reconcilePage(page, listingLimiter)
+                                .flatMap(count -> saveCheckpoint(page).thenReturn(count)))
+                        .reduce(0L, Long::sum));
+    }
+
+    /**
+     * One permit per listing interval, so calls are spread evenly; callers wait for a permit
+     * for at most the lock lease.
+     */
+    private RateLimiter listingLimiter() {
+        return RateLimiter.of(JOB_NAME, RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofSeconds(1).dividedBy(Math.max(listingsPerSecond, 1)))
+                .timeoutDuration(lockLease)
+                .build());
+    }
+
+    private Mono<Optional<DocumentCursor>> loadCheckpoint() {
+        return jobCheckpointStore.find(JOB_NAME)
+                .map(checkpoint -> {
+                    try {
+                        return Optional.of(DocumentCursor.decode(checkpoint));
+                    } catch (IllegalArgumentException e) {
+                        log.warn("Ignoring unreadable reconciler checkpoint: {}", e.getMessage());
+                        return Optional.<DocumentCursor>empty();
+                    }
+                })
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    private Mono<Void> saveCheckpoint(List<AsDocument> page) {
+        if (page.size() < pageSize) {
+            return jobCheckpointStore.delete(JOB_NAME);
+        }
+        return jobCheckpointStore.save(JOB_NAME, DocumentCursor.of(page.get(page.size() - 1)).encode());
+    }
+
+    private Mono<List<AsDocument>> fetchPage(LocalDateTime cutoff, DocumentCursor after) {
+        return pendingUploadQueries.findPendingUploadsBefore(cutoff, after, pageSize).collectList();
+    }
+
+    private Mono<Long> reconcilePage(List<AsDocument> page, RateLimiter listingLimiter) {
+        if (page.isEmpty()) {
+            return Mono.just(0L);
+        }
+        checked.increment(page.size());
+
+        return Flux.fromIterable(page.stream().collect(Collectors.groupingBy(AsDocument::getOwnerId)).values())
+                .flatMap(documents -> findStoredObjects(documents, listingLimiter), listingConcurrency)
+                .flatMapIterable(Function.identity())
+                .collectList()
+                .flatMap(documentService::processStoredObjects)
+                .map(UploadProcessingResult::getSucceeded)
+                .doOnNext(promoted::increment);
+    }
+
+    /**
+     * Lists the owner's objects in key order from just before the first pending key until the
+     * last one has been passed, and returns the pending ones that exist.
+     */
+    private Mono<List<StoredObject>> findStoredObjects(List<AsDocument> documents, RateLimiter listingLimiter) {
+        String ownerId = documents.get(0).getOwnerId();
+        Map<String, AsDocument> pendingByKey = documents.stream()
+                .collect(Collectors.toMap(StorageKeys::objectKeyFor, Function.identity(), (first, second) -> first));
+        String firstKey = pendingByKey.keySet().stream().min(Comparator.naturalOrder()).orElseThrow();
+        String lastKey = pendingByKey.keySet().stream().max(Comparator.naturalOrder()).orElseThrow();
+        String prefix = ownerId + "/";
+        // start-after is exclusive; dropping the last character sorts right before the first key
+        String startAfter = firstKey.substring(0, firstKey.length() - 1);
+
+        return listObjects(prefix, startAfter, listingLimiter)
+                .expand(listing -> finished(listing, lastKey)
+                        ? Mono.empty()
+                        : listObjects(prefix, listing.nextStartAfter(), listingLimiter))
+                .take(maxListingPagesPerOwner)
+                .index()
+                .doOnNext(page -> {
+                    if (page.getT1() == maxListingPagesPerOwner - 1 && !finished(page.getT2(), lastKey)) {
+                        listingsTruncated.increment();
+                        log.warn("Stopped listing objects of owner {} after {} pages, before its last pending key",
+                                ownerId, maxListingPagesPerOwner);
+                    }
+                })
+                .flatMapIterable(page -> page.getT2().objects())
+                .filter(object -> pendingByKey.containsKey(object.objectKey()))
+                .collectList()
+                .onErrorResume(error -> {
+                    listingsFailed.increment();
+                    log.warn("Failed to list stored objects of owner {}: {}", ownerId, error.getMessage());
+                    return Mono.just(List.of());
+                });
+    }
+
+    private Mono<StoredObjectListing> listObjects(String prefix, String startAfter, RateLimiter listingLimiter) {
+        return storageClient.listObjects(prefix, startAfter, listingPageSize)
+                .transformDeferred(RateLimiterOperator.of(listingLimiter));
+    }
+
+    private static boolean finished(StoredObjectListing listing, String lastKey) {
+        if (listing.nextStartAfter() == null) {
+            return true;
+        }
+        List<StoredObject> objects = listing.objects();
+        return objects.isEmpty() || objects.get(objects.size() - 1).objectKey().compareTo(lastKey) >= 0;
+    }
+
+}
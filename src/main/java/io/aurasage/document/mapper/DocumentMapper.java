@@ -21,6 +21,7 @@ public abstract class DocumentMapper {
 
     @Mapping(target = "id", source = "document.id")
     @Mapping(target = "presignedUrl", source = "presignedUrl")
+    @Mapping(target = "duplicate", ignore = true)
     public abstract DocumentUrlResponse toPresignUrlRequest(AsDocument document, String presignedUrl);
 
     // Add merge method for updating documents
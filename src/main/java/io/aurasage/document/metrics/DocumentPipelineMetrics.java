@@ -0,0 +1,115 @@
+package io.aurasage.document.metrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Latency of the individual stages of the document pipelines, below the per-method totals
+ * of {@code @Observed}.
+ *
+ * <p>Every stage has one timer, {@code aurasage.document.stage}, tagged with the stage and
+ * its outcome only, and publishing a percentile histogram so quantiles can be aggregated
+ * across instances. Upload event lag is measured from the storage event time to the
+ * moment the status update was written.</p>
+ */
+@Slf4j
+@Component
+public class DocumentPipelineMetrics {
+
+    public static final String REPOSITORY_READ = "repository-read";
+    public static final String REPOSITORY_WRITE = "repository-write";
+    public static final String STORAGE_PRESIGN = "storage-presign";
+    public static final String EVENT_PUBLISH = "event-publish";
+    public static final String MAPPING = "mapping";
+
+    private static final String STAGE_METRIC = "aurasage.document.stage";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Timer eventLag;
+
+    public DocumentPipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.eventLag = Timer.builder("aurasage.document.upload.event.lag")
+                .description("Time from the storage upload event to the document status update")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Times a stage from subscription to completion or error; cancelled stages are not recorded.
+     */
+    public <T> Function<Mono<T>, Mono<T>> timed(String stage) {
+        return mono -> Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono.doFinally(signal -> record(stage, signal, start));
+        });
+    }
+
+    public <T> Function<Flux<T>, Flux<T>> timedMany(String stage) {
+        return flux -> Flux.defer(() -> {
+            long start = System.nanoTime();
+            return flux.doFinally(signal -> record(stage, signal, start));
+        });
+    }
+
+    public <T> T time(String stage, Supplier<T> work) {
+        return timer(stage, "success").record(work);
+    }
+
+    public void time(String stage, Runnable work) {
+        timer(stage, "success").record(work);
+    }
+
+    /**
+     * @param eventTime ISO-8601 time of the storage event record
+     */
+    public void recordEventLag(String eventTime) {
+        if (eventTime == null) {
+            return;
+        }
+        try {
+            Duration lag = Duration.between(OffsetDateTime.parse(eventTime).toInstant(), Instant.now());
+            if (!lag.isNegative()) {
+                eventLag.record(lag);
+            }
+        } catch (DateTimeParseException e) {
+            log.debug("Unreadable upload event time {}: {}", eventTime, e.getMessage());
+        }
+    }
+
+    private void record(String stage, SignalType signal, long start) {
+        if (signal == SignalType.CANCEL) {
+            return;
+        }
+        String outcome = signal == SignalType.ON_ERROR ? "error" : "success";
+        timer(stage, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String stage, String outcome) {
+        return timers.computeIfAbsent(stage + ':' + outcome, key -> Timer.builder(STAGE_METRIC)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry));
+    }
+
+}
@@ -0,0 +1,40 @@
+package io.aurasage.document.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Exposes the number of HTTP requests currently being handled as
+ * {@code aurasage.http.server.requests.in-flight}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InFlightRequestsFilter implements WebFilter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public InFlightRequestsFilter(MeterRegistry meterRegistry) {
+        Gauge.builder("aurasage.http.server.requests.in-flight", inFlight, AtomicInteger::get)
+                .description("HTTP requests currently being handled")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return Mono.defer(() -> {
+            inFlight.incrementAndGet();
+            return chain.filter(exchange).doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.aurasage.document.metrics;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Gauges for the shared {@code boundedElastic} scheduler, which runs blocking calls unless
+ * they are moved to virtual threads: its live workers and the tasks queued behind them.
+ */
+@Component
+public class SchedulerMetrics {
+
+    public SchedulerMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("aurasage.reactor.bounded-elastic.workers", SchedulerMetrics::workers)
+                .description("Live boundedElastic workers")
+                .register(meterRegistry);
+        Gauge.builder("aurasage.reactor.bounded-elastic.queued", SchedulerMetrics::queued)
+                .description("Tasks queued on boundedElastic workers")
+                .register(meterRegistry);
+    }
+
+    private static double workers() {
+        return Scannable.from(Schedulers.boundedElastic()).inners().count();
+    }
+
+    private static double queued() {
+        // every worker reports the queue of its executor
+        return Scannable.from(Schedulers.boundedElastic()).inners()
+                .mapToInt(worker -> worker.scanOrDefault(Scannable.Attr.BUFFERED, 0))
+                .sum();
+    }
+
+}
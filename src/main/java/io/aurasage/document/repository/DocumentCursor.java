@@ -0,0 +1,65 @@
+package io.aurasage.document.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+
+/**
+ * Keyset position in an owner's document listing, ordered newest first by
+ * {@code uploadDate} with the document id as tie-breaker.
+ *
+ * <p>Documents without an {@code uploadDate} sort after every dated one, as
+ * they do in a descending Mongo sort.</p>
+ *
+ * <p>Clients only ever see the opaque {@link #encode() encoded} form.</p>
+ */
+public record DocumentCursor(LocalDateTime uploadDate, String id) {
+
+    public static final Comparator<AsDocument> NEWEST_FIRST = Comparator
+            .comparing(AsDocument::getUploadDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(AsDocument::getId, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .reversed();
+
+    private static final String SEPARATOR = "|";
+    private static final String NO_UPLOAD_DATE = "-";
+
+    public static DocumentCursor of(AsDocument document) {
+        return new DocumentCursor(document.getUploadDate(), document.getId());
+    }
+
+    public static DocumentCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == value.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String uploadDate = value.substring(0, separator);
+            return new DocumentCursor(NO_UPLOAD_DATE.equals(uploadDate) ? null : LocalDateTime.parse(uploadDate),
+                    value.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String value = (uploadDate == null ? NO_UPLOAD_DATE : uploadDate.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether the given document sorts strictly after this cursor.
+     */
+    public boolean precedes(AsDocument document) {
+        return NEWEST_FIRST.compare(toDocument(), document) < 0;
+    }
+
+    private AsDocument toDocument() {
+        return AsDocument.builder().uploadDate(uploadDate).id(id).build();
+    }
+
+}
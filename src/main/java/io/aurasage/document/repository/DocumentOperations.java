@@ -0,0 +1,92 @@
+package io.aurasage.document.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Document persistence operations needed by this service on top of the
+ * adapter-provided {@link io.aurasage.core.document.repository.DocumentRepository}.
+ *
+ * <p>Adapters with native support (e.g. MongoDB) get a dedicated implementation;
+ * every other adapter falls back to one composed from the generic repository.</p>
+ */
+public interface DocumentOperations {
+
+    /**
+     * Returns up to {@code limit} documents of the owner, newest first, strictly after the cursor.
+     *
+     * @param after cursor of the last document of the previous page, or {@code null} for the first page
+     */
+    Flux<AsDocument> findPageByOwnerId(String ownerId, DocumentCursor after, int limit);
+
+    /**
+     * Inserts all documents, as a single bulk insert where supported.
+     *
+     * @return the inserted documents with generated ids, in input order
+     */
+    Flux<AsDocument> insertAll(List<AsDocument> documents);
+
+    /**
+     * Returns the documents with the given ids that belong to the owner.
+     */
+    Flux<AsDocument> findAllByIdAndOwnerId(Collection<String> ids, String ownerId);
+
+    /**
+     * Returns the documents with the given ids that are currently in the given status.
+     */
+    Flux<AsDocument> findAllByIdAndStatus(Collection<String> ids, DocumentStatus status);
+
+    /**
+     * Deletes the documents with the given ids, as a single bulk delete where supported.
+     *
+     * @return number of documents deleted
+     */
+    Mono<Long> deleteAllById(Collection<String> ids);
+
+    /**
+     * Deletes the documents with the given ids that are still in the given status, so documents
+     * that changed concurrently are kept.
+     *
+     * @return number of documents deleted
+     */
+    Mono<Long> deleteAllByIdAndStatus(Collection<String> ids, DocumentStatus status);
+
+    /**
+     * Atomically applies the non-null file path, hash, size, content type and status of the
+     * upload to the document with the same id, only while it is still {@code PENDING_UPLOAD}.
+     *
+     * @return the updated document, or empty when no pending document matched
+     */
+    Mono<AsDocument> completeUpload(AsDocument upload);
+
+    /**
+     * Bulk variant of {@link #completeUpload(AsDocument)}, as a single write where supported.
+     *
+     * @return number of pending documents matched
+     */
+    Mono<Long> completeUploads(List<AsDocument> uploads);
+
+    /**
+     * Returns the owner's documents with the given content hash, as an indexed lookup where supported.
+     */
+    Flux<AsDocument> findAllByOwnerIdAndFileHash(String ownerId, String fileHash);
+
+    /**
+     * Points an {@code UPLOADED} document at another stored object with the same content.
+     *
+     * @return the updated document, or empty when no uploaded document matched
+     */
+    Mono<AsDocument> linkFile(String documentId, String filePath);
+
+    /**
+     * Computes the owner's {@link DocumentStats} from the stored documents, as a server-side
+     * aggregation where supported.
+     */
+    Mono<DocumentStats> aggregateStatsByOwnerId(String ownerId);
+
+}
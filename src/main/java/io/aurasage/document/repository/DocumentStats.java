@@ -0,0 +1,78 @@
+package io.aurasage.document.repository;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+
+/**
+ * Aggregate counters of an owner's documents. Also used as a delta, in which case the
+ * values may be negative.
+ *
+ * @param byStatus      document count per {@link DocumentStatus} name
+ * @param byContentType document count per normalized content type
+ */
+public record DocumentStats(long documentCount, long totalBytes, Map<String, Long> byStatus,
+        Map<String, Long> byContentType) {
+
+    public static final DocumentStats EMPTY = new DocumentStats(0, 0, Map.of(), Map.of());
+
+    public static final String UNKNOWN = "unknown";
+
+    public DocumentStats {
+        byStatus = Map.copyOf(byStatus);
+        byContentType = Map.copyOf(byContentType);
+    }
+
+    public static DocumentStats of(AsDocument document) {
+        return of(document.getStatus(), document.getContentType(), document.getSizeInBytes());
+    }
+
+    public static DocumentStats of(DocumentStatus status, String contentType, Long sizeInBytes) {
+        return new DocumentStats(1, sizeInBytes == null ? 0 : sizeInBytes,
+                Map.of(status == null ? UNKNOWN : status.name(), 1L),
+                Map.of(contentTypeKey(contentType), 1L));
+    }
+
+    /**
+     * Content type without parameters, lower-cased, e.g. {@code text/plain} for
+     * {@code Text/Plain; charset=UTF-8}.
+     */
+    public static String contentTypeKey(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return UNKNOWN;
+        }
+        int parameters = contentType.indexOf(';');
+        String mediaType = parameters >= 0 ? contentType.substring(0, parameters) : contentType;
+        return mediaType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public DocumentStats plus(DocumentStats other) {
+        return new DocumentStats(documentCount + other.documentCount, totalBytes + other.totalBytes,
+                sum(byStatus, other.byStatus), sum(byContentType, other.byContentType));
+    }
+
+    public DocumentStats negate() {
+        return new DocumentStats(-documentCount, -totalBytes, negate(byStatus), negate(byContentType));
+    }
+
+    public boolean isEmpty() {
+        return documentCount == 0 && totalBytes == 0 && byStatus.isEmpty() && byContentType.isEmpty();
+    }
+
+    private static Map<String, Long> sum(Map<String, Long> left, Map<String, Long> right) {
+        Map<String, Long> sum = new HashMap<>(left);
+        right.forEach((key, value) -> sum.merge(key, value, Long::sum));
+        sum.values().removeIf(value -> value == 0);
+        return sum;
+    }
+
+    private static Map<String, Long> negate(Map<String, Long> counts) {
+        Map<String, Long> negated = new HashMap<>();
+        counts.forEach((key, value) -> negated.put(key, -value));
+        return negated;
+    }
+
+}
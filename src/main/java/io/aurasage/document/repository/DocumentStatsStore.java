@@ -0,0 +1,45 @@
+package io.aurasage.document.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Incrementally maintained per-owner {@link DocumentStats}.
+ *
+ * <p>Counters carry a version that every update bumps, so a recomputation started before a
+ * concurrent increment does not overwrite it.</p>
+ */
+public interface DocumentStatsStore {
+
+    /**
+     * Version of counters that have not been recorded yet.
+     */
+    long NO_VERSION = 0;
+
+    /**
+     * @return the owner's counters, or empty when none have been recorded yet
+     */
+    Mono<DocumentStats> findByOwnerId(String ownerId);
+
+    /**
+     * @return the version of the owner's counters, or {@link #NO_VERSION} when none have been recorded yet
+     */
+    Mono<Long> findVersion(String ownerId);
+
+    /**
+     * Atomically adds the delta to the owner's counters. Owners without counters are left
+     * alone; their counters are computed from the documents on first read.
+     */
+    Mono<Void> add(String ownerId, DocumentStats delta);
+
+    /**
+     * Overwrites the owner's counters with recomputed values if they are still at the given
+     * version, or creates them if the version is {@link #NO_VERSION} and they are still missing.
+     *
+     * @return whether the counters were written
+     */
+    Mono<Boolean> replace(String ownerId, DocumentStats stats, long expectedVersion);
+
+    Flux<String> findAllOwnerIds();
+
+}
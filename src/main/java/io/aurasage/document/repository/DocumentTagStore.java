@@ -0,0 +1,30 @@
+package io.aurasage.document.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-document {@link DocumentTags}, indexed by owner and tag.
+ */
+public interface DocumentTagStore {
+
+    /**
+     * Stores the tags of newly created documents; entries without tags are skipped.
+     */
+    Mono<Void> saveAll(List<DocumentTags> tags);
+
+    /**
+     * Returns the ids of the owner's documents carrying all ({@code matchAll}) or any of the
+     * given normalized tags, in no particular order.
+     */
+    Flux<String> findDocumentIds(String ownerId, Set<String> tags, boolean matchAll);
+
+    Flux<DocumentTags> findAllByOwnerId(String ownerId);
+
+    Mono<Void> deleteAllByDocumentId(Collection<String> documentIds);
+
+}
@@ -0,0 +1,30 @@
+package io.aurasage.document.repository;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tags of one document, kept next to the document since the shared document model has no
+ * tags field.
+ */
+public record DocumentTags(String documentId, String ownerId, Set<String> tags) {
+
+    /**
+     * Normalizes tags for storage and matching: trimmed, lower case, without blanks and duplicates.
+     */
+    public static Set<String> normalize(Collection<String> tags) {
+        Set<String> normalized = new TreeSet<>();
+        if (tags != null) {
+            tags.stream()
+                    .filter(Objects::nonNull)
+                    .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                    .filter(tag -> !tag.isEmpty())
+                    .forEach(normalized::add);
+        }
+        return normalized;
+    }
+
+}
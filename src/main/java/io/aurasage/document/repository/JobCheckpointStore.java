@@ -0,0 +1,17 @@
+package io.aurasage.document.repository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Named positions of long-running jobs, so a job interrupted or stopped by its per-run
+ * limits resumes where it left off, on any instance.
+ */
+public interface JobCheckpointStore {
+
+    Mono<String> find(String name);
+
+    Mono<Void> save(String name, String checkpoint);
+
+    Mono<Void> delete(String name);
+
+}
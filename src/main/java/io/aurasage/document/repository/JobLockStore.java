@@ -0,0 +1,23 @@
+package io.aurasage.document.repository;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Named, time-bound locks that let exactly one instance run a scheduled job at a time.
+ * A lock that is not released expires after its lease, so a crashed holder never blocks
+ * the job for longer than that.
+ */
+public interface JobLockStore {
+
+    /**
+     * Acquires the lock, or extends it when already held by the same holder.
+     *
+     * @return whether the lock is now held by {@code holder}
+     */
+    Mono<Boolean> tryAcquire(String name, String holder, Duration lease);
+
+    Mono<Void> release(String name, String holder);
+
+}
@@ -0,0 +1,25 @@
+package io.aurasage.document.repository;
+
+import java.time.Instant;
+
+/**
+ * State of a document's multipart upload, kept next to the document since the shared
+ * document model has no place for it.
+ *
+ * @param documentId document being uploaded
+ * @param objectKey  storage key the parts are assembled into
+ * @param uploadId   storage-side id of the multipart upload
+ * @param partSize   size of every part except the last, in bytes
+ * @param partCount  number of parts
+ * @param lastActiveAt last time part URLs were handed out, which bounds when parts can still arrive
+ */
+public record MultipartUpload(String documentId, String ownerId, String objectKey, String uploadId, long partSize,
+        int partCount, Status status, Instant createdAt, Instant lastActiveAt) {
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETING,
+        ABORTING
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.aurasage.document.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Open {@link MultipartUpload}s by document id.
+ */
+public interface MultipartUploadStore {
+
+    Mono<Void> save(MultipartUpload upload);
+
+    Mono<MultipartUpload> findByDocumentId(String documentId);
+
+    Flux<MultipartUpload> findAllByDocumentId(Collection<String> documentIds);
+
+    /**
+     * Atomically moves the upload from the expected to the new status.
+     *
+     * @return whether the upload was in the expected status
+     */
+    Mono<Boolean> updateStatus(String documentId, MultipartUpload.Status expected, MultipartUpload.Status status);
+
+    /**
+     * Records that part URLs were handed out again, if the upload is still {@code IN_PROGRESS}.
+     *
+     * @return whether the upload was in progress
+     */
+    Mono<Boolean> markActive(String documentId, Instant lastActiveAt);
+
+    Mono<Void> deleteAllByDocumentId(Collection<String> documentIds);
+
+}
@@ -0,0 +1,15 @@
+package io.aurasage.document.repository;
+
+import java.time.Instant;
+
+/**
+ * Domain event waiting in the outbox to be published to the event bus.
+ *
+ * @param payloadType   class of the event, to read the payload back
+ * @param payload       event serialized as JSON
+ * @param attempts      failed publish attempts so far
+ * @param nextAttemptAt earliest time the relay publishes the event
+ */
+public record OutboxEvent(String id, String routingKey, String payloadType, String payload, Instant createdAt,
+        int attempts, Instant nextAttemptAt) {
+}
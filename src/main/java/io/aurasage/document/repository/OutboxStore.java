@@ -0,0 +1,26 @@
+package io.aurasage.document.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Durable queue of {@link OutboxEvent}s written with the change that raised them.
+ */
+public interface OutboxStore {
+
+    Mono<Void> saveAll(List<OutboxEvent> events);
+
+    /**
+     * @return events due at {@code now}, earliest first
+     */
+    Flux<OutboxEvent> findDue(Instant now, int limit);
+
+    Mono<Void> deleteAllById(Collection<String> ids);
+
+    Mono<Void> reschedule(String id, int attempts, Instant nextAttemptAt);
+
+}
@@ -0,0 +1,22 @@
+package io.aurasage.document.repository;
+
+import java.time.LocalDateTime;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import reactor.core.publisher.Flux;
+
+/**
+ * Queries across owners for pending uploads, offered only by persistence adapters that can
+ * page them by age. The jobs that need it are only active with such an adapter.
+ */
+public interface PendingUploadQueries {
+
+    /**
+     * Returns up to {@code limit} {@code PENDING_UPLOAD} documents initialized before the cutoff,
+     * oldest first, strictly after the cursor.
+     *
+     * @param after cursor of the last document of the previous page, or {@code null} for the first page
+     */
+    Flux<AsDocument> findPendingUploadsBefore(LocalDateTime cutoff, DocumentCursor after, int limit);
+
+}
@@ -0,0 +1,144 @@
+package io.aurasage.document.repository.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.core.document.repository.DocumentRepository;
+import io.aurasage.document.repository.DocumentCursor;
+import io.aurasage.document.repository.DocumentOperations;
+import io.aurasage.document.repository.DocumentStats;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link DocumentOperations} composed from the generic {@link DocumentRepository} for
+ * adapters without native query support.
+ */
+public class DefaultDocumentOperations implements DocumentOperations {
+
+    private final DocumentRepository documentRepository;
+    private final int writeConcurrency;
+
+    public DefaultDocumentOperations(DocumentRepository documentRepository, int writeConcurrency) {
+        this.documentRepository = documentRepository;
+        this.writeConcurrency = writeConcurrency;
+    }
+
+    @Override
+    public Flux<AsDocument> findPageByOwnerId(String ownerId, DocumentCursor after, int limit) {
+        // Keep only the top `limit` candidates so memory stays bounded by the page size
+        return documentRepository.findAllByOwnerId(ownerId)
+                .filter(document -> after == null || after.precedes(document))
+                .reduce(new PriorityQueue<>(limit + 1, DocumentCursor.NEWEST_FIRST.reversed()),
+                        (page, document) -> {
+                            page.offer(document);
+                            if (page.size() > limit) {
+                                page.poll();
+                            }
+                            return page;
+                        })
+                .flatMapMany(page -> {
+                    List<AsDocument> documents = new ArrayList<>(page);
+                    documents.sort(DocumentCursor.NEWEST_FIRST);
+                    return Flux.fromIterable(documents);
+                });
+    }
+
+    @Override
+    public Flux<AsDocument> insertAll(List<AsDocument> documents) {
+        return Flux.fromIterable(documents)
+                .flatMapSequential(documentRepository::save, writeConcurrency);
+    }
+
+    @Override
+    public Flux<AsDocument> findAllByIdAndOwnerId(Collection<String> ids, String ownerId) {
+        return Flux.fromIterable(ids)
+                .flatMap(documentRepository::findById, writeConcurrency)
+                .filter(document -> ownerId.equals(document.getOwnerId()));
+    }
+
+    @Override
+    public Flux<AsDocument> findAllByIdAndStatus(Collection<String> ids, DocumentStatus status) {
+        return Flux.fromIterable(ids)
+                .flatMap(documentRepository::findById, writeConcurrency)
+                .filter(document -> document.getStatus() == status);
+    }
+
+    @Override
+    public Mono<Long> deleteAllById(Collection<String> ids) {
+        return Flux.fromIterable(ids)
+                .flatMap(id -> documentRepository.deleteById(id).thenReturn(id), writeConcurrency)
+                .count();
+    }
+
+    @Override
+    public Mono<Long> deleteAllByIdAndStatus(Collection<String> ids, DocumentStatus status) {
+        // not atomic: a document may change between the check and the delete
+        return findAllByIdAndStatus(ids, status)
+                .flatMap(document -> documentRepository.deleteById(document.getId()).thenReturn(document),
+                        writeConcurrency)
+                .count();
+    }
+
+    @Override
+    public Mono<AsDocument> completeUpload(AsDocument upload) {
+        // not atomic: adapters without conditional updates can only check then write
+        return documentRepository.findById(upload.getId())
+                .filter(existing -> existing.getStatus() == DocumentStatus.PENDING_UPLOAD)
+                .flatMap(existing -> documentRepository.save(applyUpload(upload, existing)));
+    }
+
+    @Override
+    public Mono<Long> completeUploads(List<AsDocument> uploads) {
+        return Flux.fromIterable(uploads)
+                .flatMap(this::completeUpload, writeConcurrency)
+                .count();
+    }
+
+    @Override
+    public Flux<AsDocument> findAllByOwnerIdAndFileHash(String ownerId, String fileHash) {
+        return documentRepository.findAllByOwnerId(ownerId)
+                .filter(document -> fileHash.equals(document.getFileHash()));
+    }
+
+    @Override
+    public Mono<AsDocument> linkFile(String documentId, String filePath) {
+        return documentRepository.findById(documentId)
+                .filter(existing -> existing.getStatus() == DocumentStatus.UPLOADED)
+                .flatMap(existing -> {
+                    existing.setFilePath(filePath);
+                    return documentRepository.save(existing);
+                });
+    }
+
+    @Override
+    public Mono<DocumentStats> aggregateStatsByOwnerId(String ownerId) {
+        return documentRepository.findAllByOwnerId(ownerId)
+                .map(DocumentStats::of)
+                .reduce(DocumentStats.EMPTY, DocumentStats::plus);
+    }
+
+    static AsDocument applyUpload(AsDocument upload, AsDocument existing) {
+        if (upload.getFilePath() != null) {
+            existing.setFilePath(upload.getFilePath());
+        }
+        if (upload.getFileHash() != null) {
+            existing.setFileHash(upload.getFileHash());
+        }
+        if (upload.getSizeInBytes() != null) {
+            existing.setSizeInBytes(upload.getSizeInBytes());
+        }
+        if (upload.getContentType() != null) {
+            existing.setContentType(upload.getContentType());
+        }
+        if (upload.getStatus() != null) {
+            existing.setStatus(upload.getStatus());
+        }
+        return existing;
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.aurasage.document.repository.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.aurasage.document.repository.DocumentStats;
+import io.aurasage.document.repository.DocumentStatsStore;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Node-local {@link DocumentStatsStore} for adapters without a native implementation.
+ * Counters start empty on every node and are filled on first read and by reconciliation.
+ *
+ * <p>With several nodes the stats are per node: each node's counters only follow the writes
+ * made on that node and pick up the others' when that node recomputes them, so reads can be
+ * off by up to one reconciliation interval.</p>
+ */
+public class InMemoryDocumentStatsStore implements DocumentStatsStore {
+
+    private final ConcurrentMap<String, VersionedStats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<DocumentStats> findByOwnerId(String ownerId) {
+        return Mono.justOrEmpty(stats.get(ownerId)).map(VersionedStats::stats);
+    }
+
+    @Override
+    public Mono<Long> findVersion(String ownerId) {
+        return Mono.fromSupplier(() -> {
+            VersionedStats current = stats.get(ownerId);
+            return current == null ? NO_VERSION : current.version();
+        });
+    }
+
+    @Override
+    public Mono<Void> add(String ownerId, DocumentStats delta) {
+        return Mono.fromRunnable(() -> stats.computeIfPresent(ownerId,
+                (key, current) -> new VersionedStats(current.stats().plus(delta), current.version() + 1)));
+    }
+
+    @Override
+    public Mono<Boolean> replace(String ownerId, DocumentStats replacement, long expectedVersion) {
+        return Mono.fromSupplier(() -> {
+            if (expectedVersion == NO_VERSION) {
+                return stats.putIfAbsent(ownerId, new VersionedStats(replacement, 1)) == null;
+            }
+            VersionedStats current = stats.get(ownerId);
+            return current != null && current.version() == expectedVersion
+                    && stats.replace(ownerId, current, new VersionedStats(replacement, expectedVersion + 1));
+        });
+    }
+
+    @Override
+    public Flux<String> findAllOwnerIds() {
+        return Flux.fromIterable(stats.keySet());
+    }
+
+    private record VersionedStats(DocumentStats stats, long version) {
+    }
+
+}
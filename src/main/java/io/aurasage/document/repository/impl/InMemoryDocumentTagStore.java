@@ -0,0 +1,50 @@
+package io.aurasage.document.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.aurasage.document.repository.DocumentTagStore;
+import io.aurasage.document.repository.DocumentTags;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Node-local {@link DocumentTagStore} for adapters without a native implementation.
+ * Queries scan all entries.
+ */
+public class InMemoryDocumentTagStore implements DocumentTagStore {
+
+    private final ConcurrentMap<String, DocumentTags> tags = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> saveAll(List<DocumentTags> documentTags) {
+        return Mono.fromRunnable(() -> documentTags.stream()
+                .filter(entry -> !entry.tags().isEmpty())
+                .forEach(entry -> tags.put(entry.documentId(), entry)));
+    }
+
+    @Override
+    public Flux<String> findDocumentIds(String ownerId, Set<String> queried, boolean matchAll) {
+        return Flux.defer(() -> Flux.fromStream(tags.values().stream()
+                .filter(entry -> entry.ownerId().equals(ownerId))
+                .filter(entry -> matchAll
+                        ? entry.tags().containsAll(queried)
+                        : queried.stream().anyMatch(entry.tags()::contains))
+                .map(DocumentTags::documentId)));
+    }
+
+    @Override
+    public Flux<DocumentTags> findAllByOwnerId(String ownerId) {
+        return Flux.defer(() -> Flux.fromStream(tags.values().stream()
+                .filter(entry -> entry.ownerId().equals(ownerId))));
+    }
+
+    @Override
+    public Mono<Void> deleteAllByDocumentId(Collection<String> documentIds) {
+        return Mono.fromRunnable(() -> documentIds.forEach(tags::remove));
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.aurasage.document.repository.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.aurasage.document.repository.JobCheckpointStore;
+import reactor.core.publisher.Mono;
+
+/**
+ * Node-local {@link JobCheckpointStore}; checkpoints are lost on restart.
+ */
+public class InMemoryJobCheckpointStore implements JobCheckpointStore {
+
+    private final ConcurrentMap<String, String> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<String> find(String name) {
+        return Mono.fromSupplier(() -> checkpoints.get(name));
+    }
+
+    @Override
+    public Mono<Void> save(String name, String checkpoint) {
+        return Mono.fromRunnable(() -> checkpoints.put(name, checkpoint));
+    }
+
+    @Override
+    public Mono<Void> delete(String name) {
+        return Mono.fromRunnable(() -> checkpoints.remove(name));
+    }
+
+}
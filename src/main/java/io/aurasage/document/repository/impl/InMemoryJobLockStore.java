@@ -0,0 +1,39 @@
+package io.aurasage.document.repository.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.aurasage.document.repository.JobLockStore;
+import reactor.core.publisher.Mono;
+
+/**
+ * Node-local {@link JobLockStore}; only prevents overlapping runs within one instance.
+ */
+public class InMemoryJobLockStore implements JobLockStore {
+
+    private final ConcurrentMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Boolean> tryAcquire(String name, String holder, Duration lease) {
+        return Mono.fromSupplier(() -> {
+            Instant now = Instant.now();
+            Lease current = leases.compute(name, (key, existing) ->
+                    existing == null || existing.holder().equals(holder) || existing.expiresAt().isBefore(now)
+                            ? new Lease(holder, now.plus(lease))
+                            : existing);
+            return current.holder().equals(holder);
+        });
+    }
+
+    @Override
+    public Mono<Void> release(String name, String holder) {
+        return Mono.fromRunnable(() -> leases.computeIfPresent(name,
+                (key, existing) -> existing.holder().equals(holder) ? null : existing));
+    }
+
+    private record Lease(String holder, Instant expiresAt) {
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.aurasage.document.repository.impl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.aurasage.document.repository.MultipartUpload;
+import io.aurasage.document.repository.MultipartUploadStore;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Node-local {@link MultipartUploadStore} for adapters without a native implementation.
+ */
+public class InMemoryMultipartUploadStore implements MultipartUploadStore {
+
+    private final ConcurrentMap<String, MultipartUpload> uploads = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> save(MultipartUpload upload) {
+        return Mono.fromRunnable(() -> uploads.put(upload.documentId(), upload));
+    }
+
+    @Override
+    public Mono<MultipartUpload> findByDocumentId(String documentId) {
+        return Mono.fromSupplier(() -> uploads.get(documentId));
+    }
+
+    @Override
+    public Flux<MultipartUpload> findAllByDocumentId(Collection<String> documentIds) {
+        return Flux.defer(() -> Flux.fromStream(documentIds.stream()
+                .map(uploads::get)
+                .filter(upload -> upload != null)));
+    }
+
+    @Override
+    public Mono<Boolean> updateStatus(String documentId, MultipartUpload.Status expected,
+            MultipartUpload.Status status) {
+        return Mono.fromSupplier(() -> {
+            boolean[] updated = {false};
+            uploads.computeIfPresent(documentId, (key, upload) -> {
+                if (upload.status() != expected) {
+                    return upload;
+                }
+                updated[0] = true;
+                return new MultipartUpload(upload.documentId(), upload.ownerId(), upload.objectKey(),
+                        upload.uploadId(), upload.partSize(), upload.partCount(), status, upload.createdAt(),
+                        upload.lastActiveAt());
+            });
+            return updated[0];
+        });
+    }
+
+    @Override
+    public Mono<Boolean> markActive(String documentId, Instant lastActiveAt) {
+        return Mono.fromSupplier(() -> {
+            boolean[] updated = {false};
+            uploads.computeIfPresent(documentId, (key, upload) -> {
+                if (upload.status() != MultipartUpload.Status.IN_PROGRESS) {
+                    return upload;
+                }
+                updated[0] = true;
+                return new MultipartUpload(upload.documentId(), upload.ownerId(), upload.objectKey(),
+                        upload.uploadId(), upload.partSize(), upload.partCount(), upload.status(),
+                        upload.createdAt(), lastActiveAt);
+            });
+            return updated[0];
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteAllByDocumentId(Collection<String> documentIds) {
+        return Mono.fromRunnable(() -> documentIds.forEach(uploads::remove));
+    }
+
+}
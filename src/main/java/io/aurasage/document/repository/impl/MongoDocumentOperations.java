@@ -0,0 +1,230 @@
+package io.aurasage.document.repository.impl;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.repository.DocumentCursor;
+import io.aurasage.document.repository.DocumentOperations;
+import io.aurasage.document.repository.PendingUploadQueries;
+import io.aurasage.document.repository.DocumentStats;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+public class MongoDocumentOperations implements DocumentOperations, PendingUploadQueries {
+
+    private static final String OWNER_ID = "ownerId";
+    private static final String UPLOAD_DATE = "uploadDate";
+    private static final String ID = "id";
+    private static final String FILE_PATH = "filePath";
+    private static final String FILE_HASH = "fileHash";
+    private static final String SIZE_IN_BYTES = "sizeInBytes";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String STATUS = "status";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final String collectionName;
+
+    public MongoDocumentOperations(ReactiveMongoTemplate mongoTemplate, String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+    }
+
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(collectionName)
+                .ensureIndex(new Index()
+                        .on(OWNER_ID, Sort.Direction.ASC)
+                        .on(UPLOAD_DATE, Sort.Direction.DESC)
+                        .on("_id", Sort.Direction.DESC)
+                        .named("owner_upload_date_idx"))
+                .concatWith(mongoTemplate.indexOps(collectionName)
+                        .ensureIndex(new Index()
+                                .on(STATUS, Sort.Direction.ASC)
+                                .on(UPLOAD_DATE, Sort.Direction.ASC)
+                                .on("_id", Sort.Direction.ASC)
+                                .named("status_upload_date_idx")))
+                .concatWith(mongoTemplate.indexOps(collectionName)
+                        .ensureIndex(new Index()
+                                .on(OWNER_ID, Sort.Direction.ASC)
+                                .on(FILE_HASH, Sort.Direction.ASC)
+                                .partial(PartialIndexFilter.of(Criteria.where(FILE_HASH).exists(true)))
+                                .named("owner_file_hash_idx")))
+                .subscribe(
+                        name -> log.info("Ensured index {} on {}", name, collectionName),
+                        error -> log.error("Failed to ensure indexes on {}: {}", collectionName, error.getMessage()));
+    }
+
+    @Override
+    public Flux<AsDocument> findPageByOwnerId(String ownerId, DocumentCursor after, int limit) {
+        Criteria criteria = Criteria.where(OWNER_ID).is(ownerId);
+        if (after != null && after.uploadDate() == null) {
+            // undated documents sort last, so only those with a smaller id remain
+            criteria = criteria.and(UPLOAD_DATE).is(null).and(ID).lt(after.id());
+        } else if (after != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where(UPLOAD_DATE).lt(after.uploadDate()),
+                    Criteria.where(UPLOAD_DATE).is(after.uploadDate()).and(ID).lt(after.id()),
+                    Criteria.where(UPLOAD_DATE).is(null));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, UPLOAD_DATE, ID))
+                .limit(limit);
+
+        return mongoTemplate.find(query, AsDocument.class, collectionName);
+    }
+
+    @Override
+    public Flux<AsDocument> insertAll(List<AsDocument> documents) {
+        if (documents.isEmpty()) {
+            return Flux.empty();
+        }
+        return mongoTemplate.insert(documents, collectionName);
+    }
+
+    @Override
+    public Flux<AsDocument> findAllByIdAndOwnerId(Collection<String> ids, String ownerId) {
+        Query query = Query.query(Criteria.where(ID).in(ids).and(OWNER_ID).is(ownerId));
+        return mongoTemplate.find(query, AsDocument.class, collectionName);
+    }
+
+    @Override
+    public Flux<AsDocument> findAllByIdAndStatus(Collection<String> ids, DocumentStatus status) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        Query query = Query.query(Criteria.where(ID).in(ids).and(STATUS).is(status));
+        return mongoTemplate.find(query, AsDocument.class, collectionName);
+    }
+
+    @Override
+    public Mono<Long> deleteAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where(ID).in(ids)), AsDocument.class, collectionName)
+                .map(result -> result.getDeletedCount());
+    }
+
+    @Override
+    public Mono<Long> deleteAllByIdAndStatus(Collection<String> ids, DocumentStatus status) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        Query query = Query.query(Criteria.where(ID).in(ids).and(STATUS).is(status));
+        return mongoTemplate.remove(query, AsDocument.class, collectionName)
+                .map(result -> result.getDeletedCount());
+    }
+
+    @Override
+    public Flux<AsDocument> findPendingUploadsBefore(LocalDateTime cutoff, DocumentCursor after, int limit) {
+        Criteria criteria = Criteria.where(STATUS).is(DocumentStatus.PENDING_UPLOAD);
+        // undated uploads never match the cutoff, so a cursor on one restarts from the oldest dated upload
+        if (after == null || after.uploadDate() == null) {
+            criteria = criteria.and(UPLOAD_DATE).lt(cutoff);
+        } else {
+            criteria = criteria.andOperator(
+                    Criteria.where(UPLOAD_DATE).lt(cutoff),
+                    new Criteria().orOperator(
+                            Criteria.where(UPLOAD_DATE).gt(after.uploadDate()),
+                            Criteria.where(UPLOAD_DATE).is(after.uploadDate()).and(ID).gt(after.id())));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, UPLOAD_DATE, ID))
+                .limit(limit);
+
+        return mongoTemplate.find(query, AsDocument.class, collectionName);
+    }
+
+    @Override
+    public Mono<AsDocument> completeUpload(AsDocument upload) {
+        return mongoTemplate.findAndModify(pendingUpload(upload.getId()), uploadUpdate(upload),
+                FindAndModifyOptions.options().returnNew(true), AsDocument.class, collectionName);
+    }
+
+    @Override
+    public Mono<Long> completeUploads(List<AsDocument> uploads) {
+        if (uploads.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        var bulkOps = mongoTemplate.bulkOps(BulkMode.UNORDERED, AsDocument.class, collectionName);
+        uploads.forEach(upload -> bulkOps.updateOne(pendingUpload(upload.getId()), uploadUpdate(upload)));
+
+        return bulkOps.execute()
+                .map(result -> (long) result.getMatchedCount());
+    }
+
+    @Override
+    public Flux<AsDocument> findAllByOwnerIdAndFileHash(String ownerId, String fileHash) {
+        Query query = Query.query(Criteria.where(OWNER_ID).is(ownerId).and(FILE_HASH).is(fileHash));
+        return mongoTemplate.find(query, AsDocument.class, collectionName);
+    }
+
+    @Override
+    public Mono<AsDocument> linkFile(String documentId, String filePath) {
+        Query query = Query.query(Criteria.where(ID).is(documentId).and(STATUS).is(DocumentStatus.UPLOADED));
+        return mongoTemplate.findAndModify(query, new Update().set(FILE_PATH, filePath),
+                FindAndModifyOptions.options().returnNew(true), AsDocument.class, collectionName);
+    }
+
+    @Override
+    public Mono<DocumentStats> aggregateStatsByOwnerId(String ownerId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(OWNER_ID).is(ownerId)),
+                Aggregation.group(STATUS, CONTENT_TYPE).count().as("count").sum(SIZE_IN_BYTES).as("bytes"));
+
+        // one row per (status, content type) pair, folded into a single result
+        return mongoTemplate.aggregate(aggregation, collectionName, Document.class)
+                .map(row -> {
+                    Document group = row.get("_id", Document.class);
+                    long count = ((Number) row.get("count")).longValue();
+                    Object bytes = row.get("bytes");
+                    String status = group.getString(STATUS);
+                    return new DocumentStats(count, bytes instanceof Number number ? number.longValue() : 0,
+                            Map.of(status == null ? DocumentStats.UNKNOWN : status, count),
+                            Map.of(DocumentStats.contentTypeKey(group.getString(CONTENT_TYPE)), count));
+                })
+                .reduce(DocumentStats.EMPTY, DocumentStats::plus);
+    }
+
+    private Query pendingUpload(String documentId) {
+        // replayed events no longer match once the document left PENDING_UPLOAD
+        return Query.query(Criteria.where(ID).is(documentId).and(STATUS).is(DocumentStatus.PENDING_UPLOAD));
+    }
+
+    private Update uploadUpdate(AsDocument upload) {
+        Update update = new Update();
+        setIfPresent(update, FILE_PATH, upload.getFilePath());
+        setIfPresent(update, FILE_HASH, upload.getFileHash());
+        setIfPresent(update, SIZE_IN_BYTES, upload.getSizeInBytes());
+        setIfPresent(update, CONTENT_TYPE, upload.getContentType());
+        setIfPresent(update, STATUS, upload.getStatus());
+        return update;
+    }
+
+    private static void setIfPresent(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package io.aurasage.document.repository.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import io.aurasage.document.repository.DocumentStats;
+import io.aurasage.document.repository.DocumentStatsStore;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores one counter document per owner and applies deltas with {@code $inc} updates, so
+ * concurrent writers never read-modify-write.
+ *
+ * <p>Deltas are not upserted: counters created from zero would miss the owner's existing
+ * documents. Missing counters are seeded by a recomputation instead, and every update bumps
+ * a version that recomputations compare against before replacing the counters.</p>
+ */
+public class MongoDocumentStatsStore implements DocumentStatsStore {
+
+    private static final String ID = "_id";
+    private static final String DOCUMENT_COUNT = "documentCount";
+    private static final String TOTAL_BYTES = "totalBytes";
+    private static final String BY_STATUS = "byStatus";
+    private static final String BY_CONTENT_TYPE = "byContentType";
+    private static final String VERSION = "version";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final String collectionName;
+
+    public MongoDocumentStatsStore(ReactiveMongoTemplate mongoTemplate, String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+    }
+
+    @Override
+    public Mono<DocumentStats> findByOwnerId(String ownerId) {
+        return mongoTemplate.findById(ownerId, Document.class, collectionName)
+                .map(MongoDocumentStatsStore::toStats);
+    }
+
+    @Override
+    public Mono<Long> findVersion(String ownerId) {
+        Query query = Query.query(Criteria.where(ID).is(ownerId));
+        query.fields().include(VERSION);
+        return mongoTemplate.findOne(query, Document.class, collectionName)
+                .map(document -> longValue(document.get(VERSION)))
+                .defaultIfEmpty(NO_VERSION);
+    }
+
+    @Override
+    public Mono<Void> add(String ownerId, DocumentStats delta) {
+        if (delta.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Update update = new Update()
+                .inc(DOCUMENT_COUNT, delta.documentCount())
+                .inc(TOTAL_BYTES, delta.totalBytes())
+                .inc(VERSION, 1);
+        delta.byStatus().forEach((status, count) -> update.inc(BY_STATUS + "." + encodeKey(status), count));
+        delta.byContentType().forEach((contentType, count) ->
+                update.inc(BY_CONTENT_TYPE + "." + encodeKey(contentType), count));
+
+        return mongoTemplate.updateFirst(Query.query(Criteria.where(ID).is(ownerId)), update, collectionName).then();
+    }
+
+    @Override
+    public Mono<Boolean> replace(String ownerId, DocumentStats stats, long expectedVersion) {
+        if (expectedVersion == NO_VERSION) {
+            Document document = new Document(ID, ownerId)
+                    .append(DOCUMENT_COUNT, stats.documentCount())
+                    .append(TOTAL_BYTES, stats.totalBytes())
+                    .append(BY_STATUS, encodeKeys(stats.byStatus()))
+                    .append(BY_CONTENT_TYPE, encodeKeys(stats.byContentType()))
+                    .append(VERSION, 1L);
+            return mongoTemplate.insert(document, collectionName)
+                    .thenReturn(true)
+                    // created concurrently by another recomputation
+                    .onErrorReturn(DuplicateKeyException.class, false);
+        }
+
+        Update update = new Update()
+                .set(DOCUMENT_COUNT, stats.documentCount())
+                .set(TOTAL_BYTES, stats.totalBytes())
+                .set(BY_STATUS, encodeKeys(stats.byStatus()))
+                .set(BY_CONTENT_TYPE, encodeKeys(stats.byContentType()))
+                .inc(VERSION, 1);
+        Query query = Query.query(Criteria.where(ID).is(ownerId).and(VERSION).is(expectedVersion));
+        return mongoTemplate.updateFirst(query, update, collectionName)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+
+    @Override
+    public Flux<String> findAllOwnerIds() {
+        Query query = new Query();
+        query.fields().include(ID);
+        return mongoTemplate.find(query, Document.class, collectionName)
+                .map(document -> document.getString(ID));
+    }
+
+    private static DocumentStats toStats(Document document) {
+        return new DocumentStats(
+                longValue(document.get(DOCUMENT_COUNT)),
+                longValue(document.get(TOTAL_BYTES)),
+                decodeKeys(document.get(BY_STATUS, Document.class)),
+                decodeKeys(document.get(BY_CONTENT_TYPE, Document.class)));
+    }
+
+    private static Document encodeKeys(Map<String, Long> counts) {
+        Document document = new Document();
+        counts.forEach((key, count) -> document.append(encodeKey(key), count));
+        return document;
+    }
+
+    private static Map<String, Long> decodeKeys(Document counts) {
+        Map<String, Long> decoded = new HashMap<>();
+        if (counts != null) {
+            counts.forEach((key, count) -> {
+                long value = longValue(count);
+                if (value != 0) {
+                    decoded.put(decodeKey(key), value);
+                }
+            });
+        }
+        return decoded;
+    }
+
+    // field names must not contain '.' or start with '$', both of which appear in content types
+    private static String encodeKey(String key) {
+        return key.replace("%", "%25").replace(".", "%2E").replace("$", "%24");
+    }
+
+    private static String decodeKey(String key) {
+        return key.replace("%24", "$").replace("%2E", ".").replace("%25", "%");
+    }
+
+    private static long longValue(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.aurasage.document.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import io.aurasage.document.repository.DocumentTagStore;
+import io.aurasage.document.repository.DocumentTags;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores one document per tagged document, {@code {_id: documentId, ownerId, tags: [...]}}.
+ *
+ * <p>The compound index on {@code (ownerId, tags)} is multikey, so both {@code $all} and
+ * {@code $in} tag queries are answered from index bounds on the owner's tag keys instead
+ * of scanning the owner's documents.</p>
+ */
+@Slf4j
+public class MongoDocumentTagStore implements DocumentTagStore {
+
+    private static final String ID = "_id";
+    private static final String OWNER_ID = "ownerId";
+    private static final String TAGS = "tags";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final String collectionName;
+
+    public MongoDocumentTagStore(ReactiveMongoTemplate mongoTemplate, String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+    }
+
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(collectionName)
+                .ensureIndex(new Index()
+                        .on(OWNER_ID, Sort.Direction.ASC)
+                        .on(TAGS, Sort.Direction.ASC)
+                        .named("owner_tags_idx"))
+                .subscribe(
+                        name -> log.info("Ensured index {} on {}", name, collectionName),
+                        error -> log.error("Failed to ensure indexes on {}: {}", collectionName, error.getMessage()));
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<DocumentTags> documentTags) {
+        List<Document> documents = documentTags.stream()
+                .filter(entry -> !entry.tags().isEmpty())
+                .map(entry -> new Document(ID, entry.documentId())
+                        .append(OWNER_ID, entry.ownerId())
+                        .append(TAGS, List.copyOf(entry.tags())))
+                .toList();
+        if (documents.isEmpty()) {
+            return Mono.empty();
+        }
+        return mongoTemplate.insert(documents, collectionName).then();
+    }
+
+    @Override
+    public Flux<String> findDocumentIds(String ownerId, Set<String> tags, boolean matchAll) {
+        Criteria tagCriteria = matchAll ? Criteria.where(TAGS).all(tags) : Criteria.where(TAGS).in(tags);
+        Query query = Query.query(Criteria.where(OWNER_ID).is(ownerId).andOperator(tagCriteria));
+        query.fields().include(ID);
+
+        return mongoTemplate.find(query, Document.class, collectionName)
+                .map(document -> document.getString(ID));
+    }
+
+    @Override
+    public Flux<DocumentTags> findAllByOwnerId(String ownerId) {
+        return mongoTemplate.find(Query.query(Criteria.where(OWNER_ID).is(ownerId)), Document.class, collectionName)
+                .map(document -> new DocumentTags(document.getString(ID), ownerId,
+                        new TreeSet<>(document.getList(TAGS, String.class, List.of()))));
+    }
+
+    @Override
+    public Mono<Void> deleteAllByDocumentId(Collection<String> documentIds) {
+        if (documentIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where(ID).in(documentIds)), collectionName).then();
+    }
+
+}
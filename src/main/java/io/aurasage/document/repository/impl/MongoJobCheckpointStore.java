@@ -0,0 +1,50 @@
+package io.aurasage.document.repository.impl;
+
+import java.util.Date;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import io.aurasage.document.repository.JobCheckpointStore;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores one document per checkpoint, keyed by job name.
+ */
+public class MongoJobCheckpointStore implements JobCheckpointStore {
+
+    private static final String ID = "_id";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final String collectionName;
+
+    public MongoJobCheckpointStore(ReactiveMongoTemplate mongoTemplate, String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+    }
+
+    @Override
+    public Mono<String> find(String name) {
+        return mongoTemplate.findById(name, Document.class, collectionName)
+                .mapNotNull(document -> document.getString(CHECKPOINT));
+    }
+
+    @Override
+    public Mono<Void> save(String name, String checkpoint) {
+        Update update = new Update()
+                .set(CHECKPOINT, checkpoint)
+                .set(UPDATED_AT, new Date());
+        return mongoTemplate.upsert(Query.query(Criteria.where(ID).is(name)), update, collectionName).then();
+    }
+
+    @Override
+    public Mono<Void> delete(String name) {
+        return mongoTemplate.remove(Query.query(Criteria.where(ID).is(name)), collectionName).then();
+    }
+
+}
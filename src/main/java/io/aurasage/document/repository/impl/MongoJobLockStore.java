@@ -0,0 +1,59 @@
+package io.aurasage.document.repository.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import io.aurasage.document.repository.JobLockStore;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lease locks stored as one document per lock name.
+ *
+ * <p>Acquiring upserts the lock document only where it has expired or is already held by
+ * the caller. While another holder's lease is live the filter matches nothing, the upsert
+ * tries to insert a second document with the same {@code _id} and fails with a duplicate
+ * key error, which is reported as not acquired.</p>
+ */
+public class MongoJobLockStore implements JobLockStore {
+
+    private static final String ID = "_id";
+    private static final String HOLDER = "holder";
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final String collectionName;
+
+    public MongoJobLockStore(ReactiveMongoTemplate mongoTemplate, String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+    }
+
+    @Override
+    public Mono<Boolean> tryAcquire(String name, String holder, Duration lease) {
+        return Mono.defer(() -> {
+            Instant now = Instant.now();
+            Query query = Query.query(Criteria.where(ID).is(name)
+                    .orOperator(Criteria.where(EXPIRES_AT).lt(now), Criteria.where(HOLDER).is(holder)));
+            Update update = new Update()
+                    .set(HOLDER, holder)
+                    .set(EXPIRES_AT, now.plus(lease));
+
+            return mongoTemplate.upsert(query, update, collectionName)
+                    .thenReturn(true)
+                    .onErrorResume(DuplicateKeyException.class, error -> Mono.just(false));
+        });
+    }
+
+    @Override
+    public Mono<Void> release(String name, String holder) {
+        return mongoTemplate.remove(Query.query(Criteria.where(ID).is(name).and(HOLDER).is(holder)), collectionName)
+                .then();
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.aurasage.document.repository.impl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import io.aurasage.document.repository.MultipartUpload;
+import io.aurasage.document.repository.MultipartUploadStore;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores one document per open multipart upload, keyed by document id. Status changes are
+ * conditional updates, so completing and aborting the same upload cannot both succeed.
+ */
+public class MongoMultipartUploadStore implements MultipartUploadStore {
+
+    private static final String ID = "_id";
+    private static final String OWNER_ID = "ownerId";
+    private static final String OBJECT_KEY = "objectKey";
+    private static final String UPLOAD_ID = "uploadId";
+    private static final String PART_SIZE = "partSize";
+    private static final String PART_COUNT = "partCount";
+    private static final String STATUS = "status";
+    private static final String CREATED_AT = "createdAt";
+    private static final String LAST_ACTIVE_AT = "lastActiveAt";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final String collectionName;
+
+    public MongoMultipartUploadStore(ReactiveMongoTemplate mongoTemplate, String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+    }
+
+    @Override
+    public Mono<Void> save(MultipartUpload upload) {
+        Document document = new Document(ID, upload.documentId())
+                .append(OWNER_ID, upload.ownerId())
+                .append(OBJECT_KEY, upload.objectKey())
+                .append(UPLOAD_ID, upload.uploadId())
+                .append(PART_SIZE, upload.partSize())
+                .append(PART_COUNT, upload.partCount())
+                .append(STATUS, upload.status().name())
+                .append(CREATED_AT, Date.from(upload.createdAt()))
+                .append(LAST_ACTIVE_AT, Date.from(upload.lastActiveAt()));
+        return mongoTemplate.save(document, collectionName).then();
+    }
+
+    @Override
+    public Mono<MultipartUpload> findByDocumentId(String documentId) {
+        return mongoTemplate.findById(documentId, Document.class, collectionName)
+                .map(MongoMultipartUploadStore::toUpload);
+    }
+
+    @Override
+    public Flux<MultipartUpload> findAllByDocumentId(Collection<String> documentIds) {
+        if (documentIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return mongoTemplate.find(Query.query(Criteria.where(ID).in(documentIds)), Document.class, collectionName)
+                .map(MongoMultipartUploadStore::toUpload);
+    }
+
+    @Override
+    public Mono<Boolean> updateStatus(String documentId, MultipartUpload.Status expected,
+            MultipartUpload.Status status) {
+        Query query = Query.query(Criteria.where(ID).is(documentId).and(STATUS).is(expected.name()));
+        return mongoTemplate.updateFirst(query, new Update().set(STATUS, status.name()), collectionName)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+
+    @Override
+    public Mono<Boolean> markActive(String documentId, Instant lastActiveAt) {
+        Query query = Query.query(Criteria.where(ID).is(documentId)
+                .and(STATUS).is(MultipartUpload.Status.IN_PROGRESS.name()));
+        return mongoTemplate.updateFirst(query, new Update().set(LAST_ACTIVE_AT, Date.from(lastActiveAt)),
+                        collectionName)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    @Override
+    public Mono<Void> deleteAllByDocumentId(Collection<String> documentIds) {
+        if (documentIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where(ID).in(documentIds)), collectionName).then();
+    }
+
+    private static MultipartUpload toUpload(Document document) {
+        return new MultipartUpload(
+                document.getString(ID),
+                document.getString(OWNER_ID),
+                document.getString(OBJECT_KEY),
+                document.getString(UPLOAD_ID),
+                ((Number) document.get(PART_SIZE)).longValue(),
+                ((Number) document.get(PART_COUNT)).intValue(),
+                MultipartUpload.Status.valueOf(document.getString(STATUS)),
+                document.getDate(CREATED_AT).toInstant(),
+                // uploads stored before activity was tracked
+                Optional.ofNullable(document.getDate(LAST_ACTIVE_AT)).orElse(document.getDate(CREATED_AT)).toInstant());
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.aurasage.document.repository.impl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import io.aurasage.document.repository.OutboxEvent;
+import io.aurasage.document.repository.OutboxStore;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores one document per pending event. The relay reads due events through the index on
+ * {@code nextAttemptAt} and removes them once published, so the collection only holds the
+ * backlog.
+ */
+@Slf4j
+public class MongoOutboxStore implements OutboxStore {
+
+    private static final String ID = "_id";
+    private static final String ROUTING_KEY = "routingKey";
+    private static final String PAYLOAD_TYPE = "payloadType";
+    private static final String PAYLOAD = "payload";
+    private static final String CREATED_AT = "createdAt";
+    private static final String ATTEMPTS = "attempts";
+    private static final String NEXT_ATTEMPT_AT = "nextAttemptAt";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final String collectionName;
+
+    public MongoOutboxStore(ReactiveMongoTemplate mongoTemplate, String collectionName) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+    }
+
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(collectionName)
+                .ensureIndex(new Index()
+                        .on(NEXT_ATTEMPT_AT, Sort.Direction.ASC)
+                        .named("outbox_due_idx"))
+                .subscribe(
+                        name -> log.info("Ensured index {} on {}", name, collectionName),
+                        error -> log.error("Failed to ensure indexes on {}: {}", collectionName, error.getMessage()));
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        List<Document> documents = events.stream()
+                .map(event -> new Document(ID, event.id())
+                        .append(ROUTING_KEY, event.routingKey())
+                        .append(PAYLOAD_TYPE, event.payloadType())
+                        .append(PAYLOAD, event.payload())
+                        .append(CREATED_AT, Date.from(event.createdAt()))
+                        .append(ATTEMPTS, event.attempts())
+                        .append(NEXT_ATTEMPT_AT, Date.from(event.nextAttemptAt())))
+                .toList();
+        return mongoTemplate.insert(documents, collectionName).then();
+    }
+
+    @Override
+    public Flux<OutboxEvent> findDue(Instant now, int limit) {
+        Query query = Query.query(Criteria.where(NEXT_ATTEMPT_AT).lte(now))
+                .with(Sort.by(Sort.Direction.ASC, NEXT_ATTEMPT_AT))
+                .limit(limit);
+        return mongoTemplate.find(query, Document.class, collectionName)
+                .map(MongoOutboxStore::toEvent);
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where(ID).in(ids)), collectionName).then();
+    }
+
+    @Override
+    public Mono<Void> reschedule(String id, int attempts, Instant nextAttemptAt) {
+        Update update = new Update()
+                .set(ATTEMPTS, attempts)
+                .set(NEXT_ATTEMPT_AT, Date.from(nextAttemptAt));
+        return mongoTemplate.updateFirst(Query.query(Criteria.where(ID).is(id)), update, collectionName).then();
+    }
+
+    private static OutboxEvent toEvent(Document document) {
+        return new OutboxEvent(
+                document.getString(ID),
+                document.getString(ROUTING_KEY),
+                document.getString(PAYLOAD_TYPE),
+                document.getString(PAYLOAD),
+                document.getDate(CREATED_AT).toInstant(),
+                document.getInteger(ATTEMPTS, 0),
+                document.getDate(NEXT_ATTEMPT_AT).toInstant());
+    }
+
+}
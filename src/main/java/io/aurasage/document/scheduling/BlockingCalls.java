@@ -0,0 +1,124 @@
+package io.aurasage.document.scheduling;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Runs the service's blocking integrations (Feign storage calls, event publishing) off the
+ * event loop.
+ *
+ * <p>In {@code bounded-elastic} mode calls share Reactor's {@code boundedElastic} pool,
+ * which queues once all of its threads are busy. In {@code virtual-threads} mode every call
+ * gets its own virtual thread, so blocking concurrency follows demand; a semaphore caps it
+ * to protect the downstream services, and calls that cannot get a permit within the acquire
+ * timeout fail with {@link RejectedExecutionException}.</p>
+ */
+@Slf4j
+@Component
+public class BlockingCalls {
+
+    public enum Mode {
+        BOUNDED_ELASTIC, VIRTUAL_THREADS
+    }
+
+    private final Mode mode;
+    private final Scheduler scheduler;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+
+    public BlockingCalls(MeterRegistry meterRegistry,
+            @Value("${aurasage.document.blocking.mode:bounded-elastic}") String mode,
+            @Value("${aurasage.document.blocking.max-concurrency:1000}") int maxConcurrency,
+            @Value("${aurasage.document.blocking.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        this.acquireTimeout = acquireTimeout;
+        if (this.mode == Mode.VIRTUAL_THREADS) {
+            this.scheduler = Schedulers.fromExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blocking-vt-", 0).factory()),
+                    "blocking-virtual-threads");
+            this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+        } else {
+            this.scheduler = Schedulers.boundedElastic();
+            this.permits = null;
+        }
+        log.info("Running blocking calls on {}", this.mode);
+
+        Gauge.builder("aurasage.document.blocking.active", active, AtomicInteger::get)
+                .description("Blocking calls currently running")
+                .tag("mode", this.mode.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        Gauge.builder("aurasage.document.blocking.waiting", this, calls -> calls.waiting())
+                .description("Blocking calls waiting for a concurrency permit")
+                .tag("mode", this.mode.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        this.rejected = Counter.builder("aurasage.document.blocking.rejected")
+                .tag("mode", this.mode.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> call(Callable<T> call) {
+        return Mono.fromCallable(() -> {
+            acquire();
+            active.incrementAndGet();
+            try {
+                return call.call();
+            } finally {
+                active.decrementAndGet();
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        }).subscribeOn(scheduler);
+    }
+
+    public Mono<Void> run(Runnable task) {
+        return call(() -> {
+            task.run();
+            return null;
+        }).then();
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (mode == Mode.VIRTUAL_THREADS) {
+            scheduler.dispose();
+        }
+    }
+
+    private void acquire() throws InterruptedException {
+        // parks only the virtual thread running the call
+        if (permits != null && !permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            rejected.increment();
+            throw new RejectedExecutionException("Too many concurrent blocking calls");
+        }
+    }
+
+    private double waiting() {
+        return permits != null ? permits.getQueueLength() : 0;
+    }
+
+}
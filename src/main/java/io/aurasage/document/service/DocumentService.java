@@ -1,9 +1,19 @@
 package io.aurasage.document.service;
 
+import java.util.List;
+
 import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.document.client.StoredObject;
+import io.aurasage.document.dto.BulkDeleteProgress;
+import io.aurasage.document.dto.CompletedPart;
+import io.aurasage.document.dto.DocumentBatchUploadResponse;
+import io.aurasage.document.dto.DocumentPageResponse;
 import io.aurasage.document.dto.DocumentRequest;
 import io.aurasage.document.dto.DocumentResponse;
+import io.aurasage.document.dto.DocumentStatusEvent;
 import io.aurasage.document.dto.DocumentUrlResponse;
+import io.aurasage.document.dto.MultipartUploadResponse;
+import io.aurasage.document.dto.UploadProcessingResult;
 import io.aurasage.events.dto.StorageEvent;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -12,17 +22,49 @@ public interface DocumentService {
 
     Mono<DocumentUrlResponse> uploadDocument(DocumentRequest documentRequest, String userId);
 
+    Mono<DocumentBatchUploadResponse> uploadDocuments(List<DocumentRequest> documentRequests, String userId);
+
+    Mono<MultipartUploadResponse> initMultipartUpload(DocumentRequest documentRequest, String userId);
+
+    Mono<MultipartUploadResponse> resumeMultipartUpload(String documentId, String userId);
+
+    Mono<Void> completeMultipartUpload(String documentId, List<CompletedPart> parts, String userId);
+
+    Mono<Void> abortMultipartUpload(String documentId, String userId);
+
     Flux<DocumentResponse> getDocuments(String userId);
 
+    Flux<DocumentResponse> getDocumentsByTags(String userId, List<String> tags, boolean matchAll);
+
+    Mono<DocumentPageResponse> getDocumentsPage(String userId, int size, String cursor);
+
+    Flux<DocumentResponse> streamDocuments(String userId);
+
+    Flux<DocumentStatusEvent> streamStatusEvents(String userId);
+
     Mono<DocumentResponse> getDocumentById(String documentId);
 
     Mono<Void> deleteDocument(String documentId);
 
     Mono<Void> deleteDocument(String documentId, boolean deleteFromStorage);
 
+    Flux<BulkDeleteProgress> deleteDocuments(List<String> documentIds, String userId);
+
+    Flux<BulkDeleteProgress> deleteAllDocuments(String userId);
+
+    Mono<Long> deletePendingUploads(List<AsDocument> documents);
+
     Mono<DocumentUrlResponse> downloadDocument(String documentId);
 
     Mono<DocumentResponse> updateDocument(AsDocument document);
 
     Mono<Void> processDocumentUploadedEvent(StorageEvent event);
+
+    Mono<UploadProcessingResult> processDocumentUploadedEvents(List<StorageEvent> events);
+
+    /**
+     * Completes pending uploads whose objects were found in storage without an upload event,
+     * the same way {@link #processDocumentUploadedEvents} does.
+     */
+    Mono<UploadProcessingResult> processStoredObjects(List<StoredObject> objects);
 }
@@ -0,0 +1,23 @@
+package io.aurasage.document.service;
+
+import java.util.Collection;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.document.dto.DocumentStatsResponse;
+import io.aurasage.document.repository.DocumentStats;
+import reactor.core.publisher.Mono;
+
+public interface DocumentStatsService {
+
+    Mono<DocumentStatsResponse> getStats(String userId);
+
+    Mono<DocumentStats> getUsage(String userId);
+
+    Mono<Void> recordAdded(Collection<AsDocument> documents);
+
+    Mono<Void> recordRemoved(Collection<AsDocument> documents);
+
+    Mono<Void> recordReplaced(Collection<AsDocument> before, Collection<AsDocument> after);
+
+    Mono<Long> reconcile();
+}
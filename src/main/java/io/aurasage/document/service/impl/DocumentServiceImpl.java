@@ -2,46 +2,166 @@ package io.aurasage.document.service.impl;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ResponseStatusException;
 
 import io.aurasage.core.document.model.entity.AsDocument;
 import io.aurasage.core.document.model.enums.DocumentStatus;
 import io.aurasage.core.document.repository.DocumentRepository;
 import io.aurasage.core.storage.model.StorageRequest;
-import io.aurasage.document.client.StorageServiceClient;
+import io.aurasage.document.admission.UploadAdmissionPolicy;
+import io.aurasage.document.cache.DocumentMetadataCache;
+import io.aurasage.document.cache.DocumentTagIndex;
+import io.aurasage.document.cache.DownloadUrlCache;
+import io.aurasage.document.cache.SingleFlight;
+import io.aurasage.document.client.MultipartUploadCompletion;
+import io.aurasage.document.client.MultipartUploadInit;
+import io.aurasage.document.client.MultipartUploadResume;
+import io.aurasage.document.client.PresignedUrlProvider;
+import io.aurasage.document.client.StorageClient;
+import io.aurasage.document.client.StorageKeys;
+import io.aurasage.document.client.StoredObject;
+import io.aurasage.document.dto.BulkDeleteProgress;
+import io.aurasage.document.dto.CompletedPart;
+import io.aurasage.document.dto.DocumentBatchUploadItem;
+import io.aurasage.document.dto.DocumentBatchUploadResponse;
+import io.aurasage.document.dto.DocumentPageResponse;
 import io.aurasage.document.dto.DocumentRequest;
 import io.aurasage.document.dto.DocumentResponse;
+import io.aurasage.document.dto.DocumentStatusEvent;
 import io.aurasage.document.dto.DocumentUrlResponse;
+import io.aurasage.document.dto.MultipartUploadPart;
+import io.aurasage.document.dto.MultipartUploadResponse;
+import io.aurasage.document.dto.UploadProcessingResult;
+import io.aurasage.document.event.DocumentStatusStream;
+import io.aurasage.document.event.DomainEventOutbox;
 import io.aurasage.document.mapper.DocumentMapper;
+import io.aurasage.document.metrics.DocumentPipelineMetrics;
+import io.aurasage.document.repository.DocumentCursor;
+import io.aurasage.document.repository.DocumentOperations;
+import io.aurasage.document.repository.DocumentTagStore;
+import io.aurasage.document.repository.DocumentTags;
+import io.aurasage.document.repository.MultipartUpload;
+import io.aurasage.document.repository.MultipartUploadStore;
 import io.aurasage.document.service.DocumentService;
-import io.aurasage.events.common.EventBus;
+import io.aurasage.document.service.DocumentStatsService;
 import io.aurasage.events.dto.DocumentDeletedEvent;
 import io.aurasage.events.dto.StorageEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
 public class DocumentServiceImpl implements DocumentService {
 
+    // storage limit on the number of parts of one multipart upload
+    private static final int MAX_MULTIPART_PARTS = 10_000;
+
+    private static final String DOCUMENT_DELETED_ROUTING_KEY = "document.deleted";
+
+    private static final Comparator<AsDocument> OLDEST_FIRST = DocumentCursor.NEWEST_FIRST.reversed();
+
     private final DocumentRepository documentRepository;
     private final DocumentMapper documentMapper;
-    private final StorageServiceClient storageServiceClient;
-    private final EventBus eventBus;
+    private final StorageClient storageClient;
+    private final PresignedUrlProvider presignedUrlProvider;
+    private final DomainEventOutbox domainEventOutbox;
+    private final DownloadUrlCache downloadUrlCache;
+    private final DocumentMetadataCache documentMetadataCache;
+    private final DocumentOperations documentOperations;
+    private final DocumentStatusStream documentStatusStream;
+    private final DocumentStatsService documentStatsService;
+    private final UploadAdmissionPolicy uploadAdmissionPolicy;
+    private final DocumentTagStore documentTagStore;
+    private final DocumentTagIndex documentTagIndex;
+    private final MultipartUploadStore multipartUploadStore;
+    private final DocumentPipelineMetrics pipelineMetrics;
+
+    @Value("${aurasage.document.listing.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${aurasage.document.listing.stream-batch-size:256}")
+    private int streamBatchSize;
+
+    @Value("${aurasage.document.batch-upload.max-size:500}")
+    private int maxBatchSize;
+
+    @Value("${aurasage.document.batch-upload.url-concurrency:16}")
+    private int uploadUrlConcurrency;
+
+    @Value("${aurasage.document.bulk-delete.max-ids:10000}")
+    private int maxBulkDeleteIds;
+
+    @Value("${aurasage.document.bulk-delete.chunk-size:500}")
+    private int bulkDeleteChunkSize;
+
+    @Value("${aurasage.document.multipart.part-size:64MB}")
+    private DataSize multipartPartSize;
+
+    @Value("${aurasage.document.tag-query.max-tags:10}")
+    private int maxQueryTags;
+
+    @Value("${aurasage.document.upload-events.record-concurrency:32}")
+    private int recordConcurrency;
+
+    private final Counter uploadRecordsSucceeded;
+    private final Counter uploadRecordsFailed;
+    private final Counter preUploadDuplicates;
+    private final Counter postUploadDuplicates;
+    private final boolean deduplicationEnabled;
+    private final SingleFlight<String, String> downloadUrlLoads;
 
     public DocumentServiceImpl(DocumentRepository documentRepository, DocumentMapper documentMapper,
-            StorageServiceClient storageServiceClient, EventBus eventBus) {
+            StorageClient storageClient, PresignedUrlProvider presignedUrlProvider,
+            DomainEventOutbox domainEventOutbox, DownloadUrlCache downloadUrlCache,
+            DocumentMetadataCache documentMetadataCache, DocumentOperations documentOperations,
+            DocumentStatusStream documentStatusStream, DocumentStatsService documentStatsService,
+            UploadAdmissionPolicy uploadAdmissionPolicy, DocumentTagStore documentTagStore,
+            DocumentTagIndex documentTagIndex, MultipartUploadStore multipartUploadStore,
+            DocumentPipelineMetrics pipelineMetrics, MeterRegistry meterRegistry,
+            @Value("${aurasage.document.single-flight.enabled:true}") boolean singleFlightEnabled,
+            @Value("${aurasage.document.deduplication.enabled:true}") boolean deduplicationEnabled) {
         this.documentRepository = documentRepository;
         this.documentMapper = documentMapper;
-        this.storageServiceClient = storageServiceClient;
-        this.eventBus = eventBus;
+        this.storageClient = storageClient;
+        this.presignedUrlProvider = presignedUrlProvider;
+        this.domainEventOutbox = domainEventOutbox;
+        this.downloadUrlCache = downloadUrlCache;
+        this.documentMetadataCache = documentMetadataCache;
+        this.documentOperations = documentOperations;
+        this.documentStatusStream = documentStatusStream;
+        this.documentStatsService = documentStatsService;
+        this.uploadAdmissionPolicy = uploadAdmissionPolicy;
+        this.documentTagStore = documentTagStore;
+        this.documentTagIndex = documentTagIndex;
+        this.multipartUploadStore = multipartUploadStore;
+        this.pipelineMetrics = pipelineMetrics;
+        this.uploadRecordsSucceeded = meterRegistry.counter("aurasage.document.upload.records", "result", "succeeded");
+        this.uploadRecordsFailed = meterRegistry.counter("aurasage.document.upload.records", "result", "failed");
+        this.preUploadDuplicates = meterRegistry.counter("aurasage.document.deduplicated", "stage", "pre-upload");
+        this.postUploadDuplicates = meterRegistry.counter("aurasage.document.deduplicated", "stage", "post-upload");
+        this.deduplicationEnabled = deduplicationEnabled;
+        this.downloadUrlLoads = new SingleFlight<>("download-url", singleFlightEnabled, meterRegistry);
     }
 
     @Override
@@ -51,65 +171,544 @@ public class DocumentServiceImpl implements DocumentService {
             return Mono.error(new IllegalArgumentException("User ID cannot be null or empty"));
         }
 
-        String extension = documentRequest.getFileName().contains(".")
-                ? documentRequest.getFileName().substring(documentRequest.getFileName().lastIndexOf("."))
-                : "";
+        Optional<ResponseStatusException> rejection = uploadAdmissionPolicy.validate(documentRequest);
+        if (rejection.isPresent()) {
+            return Mono.error(rejection.get());
+        }
+
+        // return Document DTO
+        return uploadAdmissionPolicy.reserve(userId, List.of(documentRequest))
+                .filter(admitted -> admitted > 0)
+                .switchIfEmpty(Mono.error(uploadAdmissionPolicy::quotaExceeded))
+                .flatMap(admitted -> initUpload(documentRequest, userId)
+                        .doOnError(error -> uploadAdmissionPolicy.release(userId, List.of(documentRequest))))
+                .doOnError(error -> log.error("Failed to upload document: {}", error.getMessage()))
+                .doOnSuccess(doc -> log.info("Successfully created document with ID: {}", doc.getId()));
+    }
 
+    private Mono<DocumentUrlResponse> initUpload(DocumentRequest documentRequest, String userId) {
         // create AsDocument entity and save metadata
-        AsDocument asDocument = AsDocument.builder()
+        return newDocument(documentRequest, userId)
+                .flatMap(document -> documentRepository.save(document)
+                        .transform(pipelineMetrics.timed(DocumentPipelineMetrics.REPOSITORY_WRITE)))
+                .flatMap(savedDoc -> documentStatsService.recordAdded(List.of(savedDoc))
+                        .then(saveTags(List.of(savedDoc), List.of(documentRequest)))
+                        .thenReturn(savedDoc))
+                .flatMap(savedDoc -> {
+                    if (savedDoc.getStatus() == DocumentStatus.UPLOADED) {
+                        log.info("Linked document {} to stored file {} with the same content", savedDoc.getId(),
+                                savedDoc.getFilePath());
+                        return Mono.just(duplicateResponse(savedDoc));
+                    }
+                    log.info("Requesting presigned upload URL for user {} and file {}", userId,
+                            documentRequest.getFileName());
+                    return requestUploadUrl(savedDoc);
+                });
+    }
+
+    @Override
+    @Observed(name = "document.uploadDocuments", contextualName = "document-upload-batch")
+    public Mono<DocumentBatchUploadResponse> uploadDocuments(List<DocumentRequest> documentRequests, String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+        if (documentRequests == null || documentRequests.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("At least one document is required"));
+        }
+        if (documentRequests.size() > maxBatchSize) {
+            return Mono.error(new IllegalArgumentException("At most " + maxBatchSize + " documents can be uploaded at once"));
+        }
+
+        DocumentBatchUploadItem[] items = new DocumentBatchUploadItem[documentRequests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+
+        for (int i = 0; i < documentRequests.size(); i++) {
+            Optional<ResponseStatusException> rejection = uploadAdmissionPolicy.validate(documentRequests.get(i));
+            if (rejection.isPresent()) {
+                items[i] = DocumentBatchUploadItem.builder().index(i).error(rejection.get().getReason()).build();
+                continue;
+            }
+            validIndexes.add(i);
+        }
+
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        return uploadAdmissionPolicy.reserve(userId, validIndexes.stream().map(documentRequests::get).toList())
+                .flatMapMany(admitted -> {
+                    for (int i = 0; i < validIndexes.size(); i++) {
+                        int index = validIndexes.get(i);
+                        if (i >= admitted) {
+                            items[index] = DocumentBatchUploadItem.builder()
+                                    .index(index)
+                                    .error(uploadAdmissionPolicy.quotaExceeded().getReason())
+                                    .build();
+                            continue;
+                        }
+                        acceptedIndexes.add(index);
+                    }
+
+                    log.info("Initializing batch upload of {} documents for user {}", acceptedIndexes.size(), userId);
+                    return Flux.fromIterable(acceptedIndexes)
+                            .flatMapSequential(index -> newDocument(documentRequests.get(index), userId),
+                                    uploadUrlConcurrency)
+                            .collectList()
+                            .flatMapMany(documents -> documentOperations.insertAll(documents)
+                                    .transform(pipelineMetrics.timedMany(DocumentPipelineMetrics.REPOSITORY_WRITE)));
+                })
+                .collectList()
+                .flatMapMany(saved -> documentStatsService.recordAdded(saved)
+                        .then(saveTags(saved, acceptedIndexes.stream().map(documentRequests::get).toList()))
+                        .thenMany(Flux.fromIterable(saved)))
+                .index()
+                .flatMapSequential(saved -> {
+                    int index = acceptedIndexes.get(saved.getT1().intValue());
+                    if (saved.getT2().getStatus() == DocumentStatus.UPLOADED) {
+                        return Mono.just(DocumentBatchUploadItem.builder()
+                                .index(index)
+                                .id(saved.getT2().getId())
+                                .duplicate(true)
+                                .build());
+                    }
+                    return requestUploadUrl(saved.getT2())
+                            .map(response -> DocumentBatchUploadItem.builder()
+                                    .index(index)
+                                    .id(response.getId())
+                                    .presignedUrl(response.getPresignedUrl())
+                                    .build())
+                            .onErrorResume(error -> {
+                                uploadAdmissionPolicy.release(userId, List.of(documentRequests.get(index)));
+                                return Mono.just(DocumentBatchUploadItem.builder()
+                                        .index(index)
+                                        .id(saved.getT2().getId())
+                                        .error(error.getMessage())
+                                        .build());
+                            });
+                }, uploadUrlConcurrency)
+                .doOnNext(item -> items[item.getIndex()] = item)
+                .then(Mono.fromCallable(() -> {
+                    List<DocumentBatchUploadItem> results = List.of(items);
+                    long failed = results.stream().filter(item -> item.getError() != null).count();
+                    return DocumentBatchUploadResponse.builder()
+                            .items(results)
+                            .succeeded(results.size() - failed)
+                            .failed(failed)
+                            .build();
+                }))
+                .doOnSuccess(response -> log.info("Batch upload initialized for user {}: {} succeeded, {} failed",
+                        userId, response.getSucceeded(), response.getFailed()))
+                .doOnError(error -> {
+                    log.error("Failed to initialize batch upload for user {}: {}", userId, error.getMessage());
+                    uploadAdmissionPolicy.release(userId, acceptedIndexes.stream().map(documentRequests::get).toList());
+                });
+    }
+
+    @Override
+    @Observed(name = "document.initMultipartUpload", contextualName = "document-init-multipart-upload")
+    public Mono<MultipartUploadResponse> initMultipartUpload(DocumentRequest documentRequest, String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+
+        Optional<ResponseStatusException> rejection = uploadAdmissionPolicy.validate(documentRequest, true);
+        if (rejection.isPresent()) {
+            return Mono.error(rejection.get());
+        }
+
+        return uploadAdmissionPolicy.reserve(userId, List.of(documentRequest))
+                .filter(admitted -> admitted > 0)
+                .switchIfEmpty(Mono.error(uploadAdmissionPolicy::quotaExceeded))
+                .flatMap(admitted -> newDocument(documentRequest, userId)
+                        .flatMap(document -> documentRepository.save(document)
+                                .transform(pipelineMetrics.timed(DocumentPipelineMetrics.REPOSITORY_WRITE)))
+                        .flatMap(savedDoc -> documentStatsService.recordAdded(List.of(savedDoc))
+                                .then(saveTags(List.of(savedDoc), List.of(documentRequest)))
+                                .thenReturn(savedDoc))
+                        .flatMap(savedDoc -> savedDoc.getStatus() == DocumentStatus.UPLOADED
+                                ? Mono.just(MultipartUploadResponse.builder().id(savedDoc.getId()).duplicate(true).build())
+                                : startMultipartUpload(savedDoc))
+                        .doOnError(error -> uploadAdmissionPolicy.release(userId, List.of(documentRequest))))
+                .doOnError(error -> log.error("Failed to initialize multipart upload: {}", error.getMessage()))
+                .doOnSuccess(response -> log.info("Initialized multipart upload of document {} in {} parts",
+                        response.getId(), response.getParts() == null ? 0 : response.getParts().size()));
+    }
+
+    private Mono<MultipartUploadResponse> startMultipartUpload(AsDocument document) {
+        long size = document.getSizeInBytes();
+        long partSize = Math.max(multipartPartSize.toBytes(), (size + MAX_MULTIPART_PARTS - 1) / MAX_MULTIPART_PARTS);
+        int partCount = (int) Math.max(1, (size + partSize - 1) / partSize);
+        String objectKey = StorageKeys.objectKeyFor(document);
+
+        return storageClient.initiateMultipartUpload(new MultipartUploadInit(objectKey, document.getFileName(), partCount))
+                .filter(started -> started.partUrls() != null && started.partUrls().size() == partCount)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Storage returned an unexpected number of part URLs")))
+                .flatMap(started -> {
+                    Instant now = Instant.now();
+                    return multipartUploadStore.save(new MultipartUpload(document.getId(), document.getOwnerId(),
+                                    objectKey, started.uploadId(), partSize, partCount, MultipartUpload.Status.IN_PROGRESS,
+                                    now, now))
+                            .thenReturn(multipartUploadResponse(document.getId(), partSize, started.partUrls()));
+                })
+                .onErrorMap(e -> {
+                    log.error("Failed to start multipart upload: {}", e.getMessage());
+                    return new RuntimeException("Failed to start multipart upload", e);
+                });
+    }
+
+    private static MultipartUploadResponse multipartUploadResponse(String documentId, long partSize,
+            List<String> partUrls) {
+        return MultipartUploadResponse.builder()
+                .id(documentId)
+                .partSize(partSize)
+                .parts(IntStream.range(0, partUrls.size())
+                        .mapToObj(i -> MultipartUploadPart.builder()
+                                .partNumber(i + 1)
+                                .presignedUrl(partUrls.get(i))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Override
+    @Observed(name = "document.resumeMultipartUpload", contextualName = "document-resume-multipart-upload")
+    public Mono<MultipartUploadResponse> resumeMultipartUpload(String documentId, String userId) {
+        if (documentId == null || documentId.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Document ID cannot be null or empty"));
+        }
+
+        // marking the upload active first keeps the reaper away from it while the new URLs are valid
+        return findMultipartUpload(documentId, userId)
+                .flatMap(upload -> multipartUploadStore.markActive(documentId, Instant.now())
+                        .filter(active -> active)
+                        .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.CONFLICT,
+                                "Multipart upload is already being completed or aborted")))
+                        .then(storageClient.resumeMultipartUpload(
+                                new MultipartUploadResume(upload.objectKey(), upload.uploadId(), upload.partCount())))
+                        .filter(resumed -> resumed.partUrls() != null && resumed.partUrls().size() == upload.partCount())
+                        .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                                "Storage returned an unexpected number of part URLs")))
+                        .map(resumed -> multipartUploadResponse(documentId, upload.partSize(), resumed.partUrls())))
+                .doOnSuccess(response -> log.info("Resumed multipart upload of document {}", documentId))
+                .doOnError(error -> log.error("Failed to resume multipart upload of document {}: {}", documentId,
+                        error.getMessage()));
+    }
+
+    @Override
+    @Observed(name = "document.completeMultipartUpload", contextualName = "document-complete-multipart-upload")
+    public Mono<Void> completeMultipartUpload(String documentId, List<CompletedPart> parts, String userId) {
+        if (documentId == null || documentId.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Document ID cannot be null or empty"));
+        }
+
+        return findMultipartUpload(documentId, userId)
+                .flatMap(upload -> {
+                    List<CompletedPart> ordered = orderedParts(upload, parts);
+                    return claimMultipartUpload(upload, MultipartUpload.Status.COMPLETING)
+                            .then(storageClient.completeMultipartUpload(
+                                            new MultipartUploadCompletion(upload.objectKey(), upload.uploadId(), ordered))
+                                    // release the claim so the client can retry
+                                    .onErrorResume(error -> multipartUploadStore.updateStatus(documentId,
+                                                    MultipartUpload.Status.COMPLETING, MultipartUpload.Status.IN_PROGRESS)
+                                            .then(Mono.error(error))))
+                            .then(multipartUploadStore.deleteAllByDocumentId(List.of(documentId)));
+                })
+                // the document turns UPLOADED once storage reports the assembled object
+                .doOnSuccess(unused -> log.info("Completed multipart upload of document {}", documentId))
+                .doOnError(error -> log.error("Failed to complete multipart upload of document {}: {}", documentId,
+                        error.getMessage()));
+    }
+
+    @Override
+    @Observed(name = "document.abortMultipartUpload", contextualName = "document-abort-multipart-upload")
+    public Mono<Void> abortMultipartUpload(String documentId, String userId) {
+        if (documentId == null || documentId.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Document ID cannot be null or empty"));
+        }
+
+        return findMultipartUpload(documentId, userId)
+                .flatMap(upload -> claimMultipartUpload(upload, MultipartUpload.Status.ABORTING)
+                        .then(storageClient.abortMultipartUpload(upload.objectKey(), upload.uploadId())
+                                .onErrorResume(error -> multipartUploadStore.updateStatus(documentId,
+                                                MultipartUpload.Status.ABORTING, MultipartUpload.Status.IN_PROGRESS)
+                                        .then(Mono.error(error))))
+                        .then(documentRepository.findById(documentId))
+                        .flatMap(document -> deletePendingUploads(List.of(document)))
+                        .then(multipartUploadStore.deleteAllByDocumentId(List.of(documentId))))
+                .doOnSuccess(unused -> log.info("Aborted multipart upload of document {}", documentId))
+                .doOnError(error -> log.error("Failed to abort multipart upload of document {}: {}", documentId,
+                        error.getMessage()));
+    }
+
+    private Mono<MultipartUpload> findMultipartUpload(String documentId, String userId) {
+        return multipartUploadStore.findByDocumentId(documentId)
+                .filter(upload -> upload.ownerId().equals(userId))
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Multipart upload not found")));
+    }
+
+    /**
+     * Moves the upload out of {@code IN_PROGRESS}, so completing and aborting exclude each other.
+     */
+    private Mono<Void> claimMultipartUpload(MultipartUpload upload, MultipartUpload.Status status) {
+        return multipartUploadStore.updateStatus(upload.documentId(), MultipartUpload.Status.IN_PROGRESS, status)
+                .filter(claimed -> claimed)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Multipart upload is already being completed or aborted")))
+                .then();
+    }
+
+    /**
+     * Checks that every part of the upload is listed exactly once with an ETag.
+     *
+     * @return the parts ordered by part number
+     */
+    private static List<CompletedPart> orderedParts(MultipartUpload upload, List<CompletedPart> parts) {
+        if (parts == null || parts.size() != upload.partCount()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Expected " + upload.partCount() + " completed parts");
+        }
+
+        CompletedPart[] ordered = new CompletedPart[upload.partCount()];
+        for (CompletedPart part : parts) {
+            if (part == null || part.partNumber() < 1 || part.partNumber() > upload.partCount()
+                    || part.eTag() == null || part.eTag().isBlank() || ordered[part.partNumber() - 1] != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Each part number from 1 to " + upload.partCount() + " must be listed once with its ETag");
+            }
+            ordered[part.partNumber() - 1] = part;
+        }
+        return List.of(ordered);
+    }
+
+    @Override
+    @Observed(name = "document.getDocuments", contextualName = "get-documents")
+    public Flux<DocumentResponse> getDocuments(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+
+        return documentRepository.findAllByOwnerId(userId)
+                .map(documentMapper::toResponse)
+                .doOnError(
+                        error -> log.error("Error retrieving documents for user {}: {}", userId, error.getMessage()));
+    }
+
+    @Override
+    @Observed(name = "document.getDocumentsByTags", contextualName = "get-documents-by-tags")
+    public Flux<DocumentResponse> getDocumentsByTags(String userId, List<String> tags, boolean matchAll) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+
+        Set<String> normalized = DocumentTags.normalize(tags);
+        if (normalized.isEmpty()) {
+            return Flux.error(new IllegalArgumentException("At least one tag is required"));
+        }
+        if (normalized.size() > maxQueryTags) {
+            return Flux.error(new IllegalArgumentException("At most " + maxQueryTags + " tags can be queried at once"));
+        }
+
+        return documentTagIndex.findDocumentIds(userId, normalized, matchAll)
+                .buffer(streamBatchSize)
+                .concatMap(ids -> documentOperations.findAllByIdAndOwnerId(ids, userId))
+                .map(documentMapper::toResponse)
+                .doOnError(error -> log.error("Error retrieving documents by tags for user {}: {}", userId,
+                        error.getMessage()));
+    }
+
+    /**
+     * Stores the tags of saved documents, given in the same order as their requests.
+     */
+    private Mono<Void> saveTags(List<AsDocument> saved, List<DocumentRequest> requests) {
+        List<DocumentTags> tags = new ArrayList<>();
+        for (int i = 0; i < saved.size(); i++) {
+            AsDocument document = saved.get(i);
+            tags.add(new DocumentTags(document.getId(), document.getOwnerId(),
+                    DocumentTags.normalize(requests.get(i).getTags())));
+        }
+        if (tags.stream().allMatch(entry -> entry.tags().isEmpty())) {
+            return Mono.empty();
+        }
+
+        return documentTagStore.saveAll(tags)
+                .doOnSuccess(unused -> tags.stream().map(DocumentTags::ownerId).distinct()
+                        .forEach(documentTagIndex::invalidate));
+    }
+
+    private Mono<Void> deleteTags(List<AsDocument> documents) {
+        return documentTagStore.deleteAllByDocumentId(documents.stream().map(AsDocument::getId).toList())
+                .doOnSuccess(unused -> documents.stream().map(AsDocument::getOwnerId).distinct()
+                        .forEach(documentTagIndex::invalidate));
+    }
+
+    /**
+     * Creates the document for an admitted request: linked to the owner's stored file when the
+     * request carries the hash of one, otherwise pending upload.
+     */
+    private Mono<AsDocument> newDocument(DocumentRequest documentRequest, String userId) {
+        String fileHash = normalizeFileHash(documentRequest.getFileHash());
+        if (!deduplicationEnabled || fileHash == null) {
+            return Mono.just(newPendingDocument(documentRequest, userId));
+        }
+
+        return findStoredCopy(userId, fileHash, null)
+                .map(copy -> {
+                    preUploadDuplicates.increment();
+                    return AsDocument.builder()
+                            .fileName(documentRequest.getFileName())
+                            .contentType(documentRequest.getContentType() != null
+                                    ? documentRequest.getContentType()
+                                    : copy.getContentType())
+                            .ownerId(userId)
+                            .sizeInBytes(copy.getSizeInBytes())
+                            .filePath(copy.getFilePath())
+                            .fileHash(copy.getFileHash())
+                            .uploadDate(LocalDateTime.now())
+                            .status(DocumentStatus.UPLOADED)
+                            .build();
+                })
+                .defaultIfEmpty(newPendingDocument(documentRequest, userId));
+    }
+
+    private DocumentUrlResponse duplicateResponse(AsDocument document) {
+        DocumentUrlResponse response = documentMapper.toPresignUrlRequest(document, null);
+        response.setDuplicate(true);
+        return response;
+    }
+
+    /**
+     * Finds the owner's oldest uploaded document with the given content, other than the excluded one.
+     */
+    private Mono<AsDocument> findStoredCopy(String ownerId, String fileHash, String excludedId) {
+        return documentOperations.findAllByOwnerIdAndFileHash(ownerId, fileHash)
+                .filter(document -> document.getStatus() == DocumentStatus.UPLOADED
+                        && document.getFilePath() != null
+                        && !document.getId().equals(excludedId))
+                .reduce(BinaryOperator.minBy(OLDEST_FIRST));
+    }
+
+    /**
+     * Whether another document still points at the document's stored file.
+     */
+    private Mono<Boolean> isFileShared(AsDocument document) {
+        if (document.getFileHash() == null || document.getFilePath() == null) {
+            return Mono.just(false);
+        }
+        // linked documents always carry the hash of the file they point at
+        return documentOperations.findAllByOwnerIdAndFileHash(document.getOwnerId(), document.getFileHash())
+                .any(other -> !other.getId().equals(document.getId())
+                        && document.getFilePath().equals(other.getFilePath()));
+    }
+
+    private AsDocument newPendingDocument(DocumentRequest documentRequest, String userId) {
+        return AsDocument.builder()
                 .fileName(documentRequest.getFileName())
-                // .filePath(objectKey)
                 .contentType(documentRequest.getContentType())
                 .ownerId(userId)
                 .sizeInBytes(documentRequest.getSizeInBytes())
                 .uploadDate(LocalDateTime.now())
                 .status(DocumentStatus.PENDING_UPLOAD) // Initial status
                 .build();
+    }
 
-        // return Document DTO
-        return documentRepository.save(asDocument)
-                .flatMap(savedDoc -> {
-                    try {
-                        log.info("Requesting presigned upload URL for user {} and file {}", userId,
-                                documentRequest.getFileName());
-                        String objectKey = userId + "/" + savedDoc.getId() + extension;
-                        StorageRequest storageRequest = StorageRequest.builder()
-                                .objectKey(objectKey)
-                                .fileName(documentRequest.getFileName())
-                                .build();
-
-                        String presignedUploadUrl = storageServiceClient.generateUploadUrl(storageRequest);
-                        return Mono.just(documentMapper.toPresignUrlRequest(savedDoc, presignedUploadUrl));
-                    } catch (Exception e) {
-                        log.error("Failed to generate presigned upload URL: {}", e.getMessage());
-                        return Mono.error(new RuntimeException("Failed to generate presigned upload URL", e));
-                    }
+    private Mono<DocumentUrlResponse> requestUploadUrl(AsDocument savedDoc) {
+        StorageRequest storageRequest = StorageRequest.builder()
+                .objectKey(StorageKeys.objectKeyFor(savedDoc))
+                .fileName(savedDoc.getFileName())
+                .build();
+
+        return presignedUrlProvider.presignUpload(storageRequest)
+                .transform(pipelineMetrics.timed(DocumentPipelineMetrics.STORAGE_PRESIGN))
+                .map(presignedUploadUrl -> pipelineMetrics.time(DocumentPipelineMetrics.MAPPING,
+                        () -> documentMapper.toPresignUrlRequest(savedDoc, presignedUploadUrl)))
+                .onErrorMap(e -> {
+                    log.error("Failed to generate presigned upload URL: {}", e.getMessage());
+                    return new RuntimeException("Failed to generate presigned upload URL", e);
+                });
+    }
+
+    @Override
+    @Observed(name = "document.getDocumentsPage", contextualName = "get-documents-page")
+    public Mono<DocumentPageResponse> getDocumentsPage(String userId, int size, String cursor) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+        if (size < 1 || size > maxPageSize) {
+            return Mono.error(new IllegalArgumentException("Page size must be between 1 and " + maxPageSize));
+        }
+
+        DocumentCursor after;
+        try {
+            after = cursor == null || cursor.isBlank() ? null : DocumentCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        // fetch one extra document to find out whether another page follows
+        return documentOperations.findPageByOwnerId(userId, after, size + 1)
+                .collectList()
+                .map(documents -> {
+                    boolean hasMore = documents.size() > size;
+                    var page = hasMore ? documents.subList(0, size) : documents;
+                    return DocumentPageResponse.builder()
+                            .items(page.stream().map(documentMapper::toResponse).toList())
+                            .nextCursor(hasMore ? DocumentCursor.of(page.get(page.size() - 1)).encode() : null)
+                            .hasMore(hasMore)
+                            .build();
                 })
-                .doOnError(error -> log.error("Failed to upload document: {}", error.getMessage()))
-                .doOnSuccess(doc -> log.info("Successfully created document with ID: {}", doc.getId()));
+                .doOnError(error -> log.error("Error retrieving document page for user {}: {}", userId,
+                        error.getMessage()));
     }
 
     @Override
-    @Observed(name = "document.getDocuments", contextualName = "get-documents")
-    public Flux<DocumentResponse> getDocuments(String userId) {
+    public Flux<DocumentResponse> streamDocuments(String userId) {
         if (userId == null || userId.trim().isEmpty()) {
             return Flux.error(new IllegalArgumentException("User ID cannot be null or empty"));
         }
 
         return documentRepository.findAllByOwnerId(userId)
+                .limitRate(streamBatchSize)
                 .map(documentMapper::toResponse)
-                .doOnError(
-                        error -> log.error("Error retrieving documents for user {}: {}", userId, error.getMessage()));
+                .doOnError(error -> log.error("Error streaming documents for user {}: {}", userId,
+                        error.getMessage()));
+    }
+
+    @Override
+    public Flux<DocumentStatusEvent> streamStatusEvents(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+
+        return documentStatusStream.subscribe(userId)
+                .doOnSubscribe(subscription -> log.debug("User {} subscribed to document status events", userId))
+                .doFinally(signal -> log.debug("User {} status event stream ended: {}", userId, signal));
+    }
+
+    private void publishStatus(String documentId, String ownerId, String status) {
+        documentStatusStream.publish(DocumentStatusEvent.builder()
+                .id(documentId)
+                .ownerId(ownerId)
+                .status(status)
+                .timestamp(Instant.now())
+                .build());
     }
 
     @Override
     @Observed(name = "document.getDocumentById", contextualName = "get-document-by-id")
     public Mono<DocumentResponse> getDocumentById(String documentId) {
-        return documentRepository.findById(documentId)
-                .map(documentMapper::toResponse)
+        return documentMetadataCache.get(documentId, this::loadDocument)
+                .map(document -> pipelineMetrics.time(DocumentPipelineMetrics.MAPPING,
+                        () -> documentMapper.toResponse(document)))
                 .doOnError(error -> log.error("Error retrieving document {}: {}", documentId, error.getMessage()));
     }
 
+    /**
+     * Reads a document; {@link DocumentMetadataCache} shares the read between concurrent misses.
+     */
+    private Mono<AsDocument> loadDocument(String documentId) {
+        return documentRepository.findById(documentId)
+                .transform(pipelineMetrics.timed(DocumentPipelineMetrics.REPOSITORY_READ));
+    }
+
     @Override
     @Observed(name = "document.deleteDocument", contextualName = "delete-document")
     public Mono<Void> deleteDocument(String documentId) {
@@ -130,33 +729,202 @@ public class DocumentServiceImpl implements DocumentService {
                 .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Document not found")))
                 .flatMap(document -> {
                     log.info("Document found, proceeding with deletion: {}", documentId);
+                    downloadUrlCache.invalidate(document.getFilePath());
 
-                    // Delete from database first
-                    return documentRepository.deleteById(documentId)
-                            .then(Mono.fromCallable(() -> {
-                                if (!deleteFromStorage || (document.getFilePath() == null || document.getFilePath().isEmpty())) {
-                                    log.info("Skipping deletion from storage for document: {}", documentId);
-                                    return document;
-                                }
-
-                                log.info("Publishing document deleted event for document: {}", documentId);
-                                DocumentDeletedEvent event = new DocumentDeletedEvent(
-                                        UUID.randomUUID(),
-                                        Instant.now(),
-                                        documentId,
-                                        document.getFilePath()
-                                );
-                                eventBus.publish("document.deleted", event);
-
-                                return document;
-                                
-                            }))
-                            .then(); // Convert to Mono<Void>
+                    // the storage cleanup event is written with the delete
+                    return deletedEvents(List.of(document), deleteFromStorage)
+                            .flatMap(events -> domainEventOutbox.transactional(documentRepository.deleteById(documentId)
+                                    .then(domainEventOutbox.publish(DOCUMENT_DELETED_ROUTING_KEY, events))))
+                            .doOnSuccess(unused -> {
+                                documentMetadataCache.evict(documentId);
+                                publishStatus(documentId, document.getOwnerId(), DocumentStatusEvent.DELETED);
+                            })
+                            .then(documentStatsService.recordRemoved(List.of(document)))
+                            .then(deleteTags(List.of(document)))
+                            .then(discardMultipartUploads(List.of(document)));
                 })
                 .doOnSuccess(unused -> log.info("Document deleted successfully: {}", documentId))
                 .doOnError(error -> log.error("Failed to delete document {}: {}", documentId, error.getMessage()));
     }
 
+    @Override
+    @Observed(name = "document.deleteDocuments", contextualName = "delete-documents")
+    public Flux<BulkDeleteProgress> deleteDocuments(List<String> documentIds, String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+        if (documentIds == null || documentIds.isEmpty()) {
+            return Flux.error(new IllegalArgumentException("At least one document ID is required"));
+        }
+        if (documentIds.size() > maxBulkDeleteIds) {
+            return Flux.error(new IllegalArgumentException("At most " + maxBulkDeleteIds + " documents can be deleted at once"));
+        }
+
+        log.info("Starting bulk deletion of {} documents for user {}", documentIds.size(), userId);
+
+        return deleteInChunks(Flux.fromIterable(documentIds)
+                .distinct()
+                .buffer(bulkDeleteChunkSize)
+                .concatMap(ids -> documentOperations.findAllByIdAndOwnerId(ids, userId).collectList()), userId);
+    }
+
+    @Override
+    @Observed(name = "document.deleteAllDocuments", contextualName = "delete-all-documents")
+    public Flux<BulkDeleteProgress> deleteAllDocuments(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+
+        log.info("Starting deletion of all documents for user {}", userId);
+
+        return deleteInChunks(documentRepository.findAllByOwnerId(userId)
+                .limitRate(bulkDeleteChunkSize)
+                .buffer(bulkDeleteChunkSize), userId);
+    }
+
+    private Flux<BulkDeleteProgress> deleteInChunks(Flux<List<AsDocument>> chunks, String userId) {
+        AtomicReference<BulkDeleteProgress> progress = new AtomicReference<>(BulkDeleteProgress.builder().build());
+
+        return chunks
+                .filter(chunk -> !chunk.isEmpty())
+                .concatMap(this::deleteChunk)
+                .map(chunk -> progress.updateAndGet(current -> current.add(chunk.getDeleted(), chunk.getEventsPublished())))
+                .concatWith(Mono.fromSupplier(() -> progress.get().toBuilder().completed(true).build()))
+                .doOnComplete(() -> log.info("Bulk deletion finished for user {}: {} documents deleted", userId,
+                        progress.get().getDeleted()))
+                .doOnError(error -> log.error("Bulk deletion failed for user {}: {}", userId, error.getMessage()));
+    }
+
+    /**
+     * Deletes one chunk of documents with a single bulk delete and publishes their storage
+     * cleanup events together afterwards.
+     */
+    private Mono<BulkDeleteProgress> deleteChunk(List<AsDocument> documents) {
+        List<String> ids = documents.stream().map(AsDocument::getId).toList();
+
+        return deletedEvents(documents, true)
+                .flatMap(events -> domainEventOutbox.transactional(documentOperations.deleteAllById(ids)
+                                .flatMap(deleted -> domainEventOutbox.publish(DOCUMENT_DELETED_ROUTING_KEY, events)
+                                        .thenReturn(deleted)))
+                        .flatMap(deleted -> documentStatsService.recordRemoved(documents)
+                                .then(deleteTags(documents))
+                                .then(discardMultipartUploads(documents))
+                                .thenReturn(deleted))
+                        .map(deleted -> {
+                            documentMetadataCache.evict(ids);
+                            for (AsDocument document : documents) {
+                                downloadUrlCache.invalidate(document.getFilePath());
+                                publishStatus(document.getId(), document.getOwnerId(), DocumentStatusEvent.DELETED);
+                            }
+                            return BulkDeleteProgress.builder()
+                                    .deleted(deleted)
+                                    .eventsPublished(events.size())
+                                    .build();
+                        }));
+    }
+
+    @Override
+    public Mono<Long> deletePendingUploads(List<AsDocument> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        List<String> ids = documents.stream().map(AsDocument::getId).toList();
+
+        Mono<List<AsDocument>> deletion = documentOperations.deleteAllByIdAndStatus(ids, DocumentStatus.PENDING_UPLOAD)
+                .flatMap(deleted -> deleted == documents.size()
+                        ? Mono.just(documents)
+                        // some uploads completed meanwhile and were kept; leave them out of the side effects
+                        : documentOperations.findAllByIdAndStatus(ids, DocumentStatus.UPLOADED)
+                                .map(AsDocument::getId)
+                                .collect(Collectors.toSet())
+                                .map(kept -> documents.stream().filter(document -> !kept.contains(document.getId())).toList()))
+                .flatMap(removed -> domainEventOutbox.publish(DOCUMENT_DELETED_ROUTING_KEY, pendingObjectEvents(removed))
+                        .thenReturn(removed));
+
+        return domainEventOutbox.transactional(deletion)
+                .flatMap(removed -> documentStatsService.recordRemoved(removed)
+                        .then(deleteTags(removed))
+                        .then(discardMultipartUploads(removed))
+                        .then(Mono.fromCallable(() -> {
+                            documentMetadataCache.evict(removed.stream().map(AsDocument::getId).toList());
+                            removed.forEach(document -> publishStatus(document.getId(), document.getOwnerId(),
+                                    DocumentStatusEvent.DELETED));
+                            return (long) removed.size();
+                        })))
+                .doOnSuccess(deleted -> log.info("Deleted {} pending uploads", deleted))
+                .doOnError(error -> log.error("Failed to delete pending uploads: {}", error.getMessage()));
+    }
+
+    /**
+     * Storage cleanup for deleted pending documents: an upload may have reached storage without
+     * its event, and deleting a missing object is a no-op.
+     */
+    private static List<DocumentDeletedEvent> pendingObjectEvents(List<AsDocument> documents) {
+        Instant now = Instant.now();
+        return documents.stream()
+                .map(document -> new DocumentDeletedEvent(UUID.randomUUID(), now, document.getId(),
+                        StorageKeys.objectKeyFor(document)))
+                .toList();
+    }
+
+    /**
+     * Aborts the open multipart uploads of deleted pending documents; storage failures are only
+     * logged, a bucket lifecycle rule for incomplete multipart uploads catches those.
+     */
+    private Mono<Void> discardMultipartUploads(List<AsDocument> documents) {
+        List<String> pendingIds = documents.stream()
+                .filter(document -> document.getStatus() == DocumentStatus.PENDING_UPLOAD)
+                .map(AsDocument::getId)
+                .toList();
+        if (pendingIds.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return multipartUploadStore.findAllByDocumentId(pendingIds)
+                .filter(upload -> upload.status() != MultipartUpload.Status.ABORTING)
+                .flatMap(upload -> storageClient.abortMultipartUpload(upload.objectKey(), upload.uploadId())
+                        .onErrorResume(error -> {
+                            log.warn("Failed to abort multipart upload of document {}: {}", upload.documentId(),
+                                    error.getMessage());
+                            return Mono.empty();
+                        }), recordConcurrency)
+                .then(multipartUploadStore.deleteAllByDocumentId(pendingIds));
+    }
+
+    /**
+     * Builds the storage cleanup events for documents whose stored file no other document
+     * shares.
+     */
+    private Mono<List<DocumentDeletedEvent>> deletedEvents(List<AsDocument> documents, boolean deleteFromStorage) {
+        if (!deleteFromStorage) {
+            return Mono.just(List.of());
+        }
+
+        return Flux.fromIterable(documents)
+                .filter(document -> {
+                    if (document.getFilePath() == null || document.getFilePath().isEmpty()) {
+                        log.info("Skipping deletion from storage for document: {}", document.getId());
+                        return false;
+                    }
+                    return true;
+                })
+                .filterWhen(document -> isFileShared(document)
+                        .doOnNext(shared -> {
+                            if (shared) {
+                                log.info("Keeping stored file of document {}, other documents share it",
+                                        document.getId());
+                            }
+                        })
+                        .map(shared -> !shared))
+                .map(document -> new DocumentDeletedEvent(
+                        UUID.randomUUID(),
+                        Instant.now(),
+                        document.getId(),
+                        document.getFilePath()))
+                .collectList();
+    }
+
     @Override
     public Mono<DocumentUrlResponse> downloadDocument(String documentId) {
         if (documentId == null || documentId.trim().isEmpty()) {
@@ -165,7 +933,7 @@ public class DocumentServiceImpl implements DocumentService {
 
         log.info("Starting download URL generation for document: {}", documentId);
 
-        return documentRepository.findById(documentId)
+        return documentMetadataCache.get(documentId, this::loadDocument)
                 .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Document not found")))
                 .flatMap(this::validateDocumentForDownload)
                 .flatMap(this::generatePresignedDownloadUrl)
@@ -192,16 +960,16 @@ public class DocumentServiceImpl implements DocumentService {
     }
 
     private Mono<DocumentUrlResponse> generatePresignedDownloadUrl(AsDocument document) {
-        return Mono.fromCallable(() -> {
-            try {
-                log.debug("Generating presigned download URL for file: {}", document.getFilePath());
-                String presignedDownloadUrl = storageServiceClient.generateDownloadUrl(document.getFilePath());
-                return documentMapper.toPresignUrlRequest(document, presignedDownloadUrl);
-            } catch (Exception e) {
-                log.error("Storage service call failed for document {}: {}", document.getId(), e.getMessage());
-                throw new RuntimeException("Failed to generate presigned download URL", e);
-            }
-        }).subscribeOn(Schedulers.boundedElastic()); // Handle blocking call properly
+        log.debug("Generating presigned download URL for file: {}", document.getFilePath());
+        return downloadUrlCache.get(document.getFilePath(),
+                filePath -> downloadUrlLoads.execute(filePath, key -> presignedUrlProvider.presignDownload(key)
+                        .transform(pipelineMetrics.timed(DocumentPipelineMetrics.STORAGE_PRESIGN))))
+                .map(presignedDownloadUrl -> pipelineMetrics.time(DocumentPipelineMetrics.MAPPING,
+                        () -> documentMapper.toPresignUrlRequest(document, presignedDownloadUrl)))
+                .onErrorMap(e -> {
+                    log.error("Storage service call failed for document {}: {}", document.getId(), e.getMessage());
+                    return new RuntimeException("Failed to generate presigned download URL", e);
+                });
     }
 
     @Override
@@ -213,10 +981,18 @@ public class DocumentServiceImpl implements DocumentService {
         return documentRepository.findById(document.getId())
                 .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Document not found")))
                 .flatMap(existingDoc -> {
+                    AsDocument before = statsView(existingDoc.getOwnerId(), existingDoc.getStatus(),
+                            existingDoc.getContentType(), existingDoc.getSizeInBytes());
                     documentMapper.mergeDocuments(document, existingDoc);
 
                     log.info("Updating document: {} - Status {}", existingDoc.getId(), existingDoc.getStatus());
-                    return documentRepository.save(existingDoc);
+                    return documentRepository.save(existingDoc)
+                            .flatMap(saved -> documentStatsService.recordReplaced(List.of(before), List.of(saved))
+                                    .thenReturn(saved));
+                })
+                .doOnNext(saved -> {
+                    documentMetadataCache.evict(saved.getId());
+                    publishStatus(saved.getId(), saved.getOwnerId(), String.valueOf(saved.getStatus()));
                 })
                 .map(documentMapper::toResponse)
                 .doOnSuccess(doc -> log.info("Successfully updated document: {}", doc.getId()))
@@ -225,35 +1001,195 @@ public class DocumentServiceImpl implements DocumentService {
 
     @Override
     public Mono<Void> processDocumentUploadedEvent(StorageEvent event) {
-        return Mono.fromCallable(() -> extractDocumentFromEvent(event))
-            .flatMap(this::updateDocument)
-            .doOnSuccess(doc -> log.info("Document upload processed: {}", doc.getId()))
+        return processDocumentUploadedEvents(List.of(event))
             .doOnError(error -> log.error("Failed to process upload event: {}", error.getMessage()))
             .then()
             .onErrorComplete();
     }
 
-    private AsDocument extractDocumentFromEvent(StorageEvent event) {
-        var s3Object = event.getRecords().get(0).getS3().getObject();
-        var documentId = extractDocumentIdFromKey(s3Object.getKey());
+    @Override
+    public Mono<UploadProcessingResult> processDocumentUploadedEvents(List<StorageEvent> events) {
+        return Flux.fromIterable(events)
+            .filter(event -> event.getRecords() != null)
+            .flatMapIterable(StorageEvent::getRecords)
+            .flatMap(record -> Mono.fromCallable(() -> {
+                    var s3Object = record.getS3().getObject();
+                    return extractDocumentFromObject(s3Object.getKey(), s3Object.getETag(), s3Object.getSize(),
+                        s3Object.getContentType());
+                })
+                .map(Optional::of)
+                .onErrorResume(error -> {
+                    log.warn("Skipping unreadable upload event record: {}", error.getMessage());
+                    return Mono.just(Optional.empty());
+                }), recordConcurrency)
+            .collectList()
+            .flatMap(extracted -> applyUploads(extracted.stream().flatMap(Optional::stream).toList(),
+                extracted.size()))
+            .doOnSuccess(result -> {
+                events.stream()
+                    .filter(event -> event.getRecords() != null)
+                    .flatMap(event -> event.getRecords().stream())
+                    .forEach(record -> pipelineMetrics.recordEventLag(record.getEventTime()));
+                uploadRecordsSucceeded.increment(result.getSucceeded());
+                uploadRecordsFailed.increment(result.getFailed());
+                log.info("Processed {} upload events with {} records: {} succeeded, {} failed", events.size(),
+                    result.getRecords(), result.getSucceeded(), result.getFailed());
+            })
+            .doOnError(error -> log.error("Failed to process batch of {} upload events: {}", events.size(),
+                error.getMessage()));
+    }
+
+    @Override
+    public Mono<UploadProcessingResult> processStoredObjects(List<StoredObject> objects) {
+        if (objects == null || objects.isEmpty()) {
+            return Mono.just(UploadProcessingResult.builder().build());
+        }
+
+        List<AsDocument> uploads = objects.stream()
+            .map(object -> extractDocumentFromObject(object.objectKey(), object.eTag(), object.size(),
+                object.contentType()))
+            .toList();
+        return applyUploads(uploads, uploads.size())
+            .doOnSuccess(result -> log.info("Completed {} of {} pending uploads found in storage",
+                result.getSucceeded(), result.getRecords()));
+    }
+
+    /**
+     * Marks the pending documents of the uploaded objects {@code UPLOADED}, then updates the
+     * statistics and links duplicates of the completed ones. Uploads of documents that are no
+     * longer pending are counted as failed.
+     */
+    private Mono<UploadProcessingResult> applyUploads(List<AsDocument> uploads, int records) {
+        uploads.forEach(document -> downloadUrlCache.invalidate(document.getFilePath()));
+        List<String> ids = uploads.stream().map(AsDocument::getId).distinct().toList();
 
+        // read the pending documents first to know which uploads apply and what they replace
+        return documentOperations.findAllByIdAndStatus(ids, DocumentStatus.PENDING_UPLOAD)
+            .transform(pipelineMetrics.timedMany(DocumentPipelineMetrics.REPOSITORY_READ))
+            .collectMap(AsDocument::getId)
+            .flatMap(pending -> {
+                List<AsDocument> completed = completedUploads(pending, uploads);
+                return documentOperations.completeUploads(uploads)
+                    .transform(pipelineMetrics.timed(DocumentPipelineMetrics.REPOSITORY_WRITE))
+                    .flatMap(matched -> recordCompletedUploads(pending, uploads)
+                        .then(linkDuplicates(completed))
+                        .thenReturn(matched));
+            })
+            .doOnNext(matched -> documentMetadataCache.evict(ids))
+            .map(matched -> UploadProcessingResult.builder()
+                .records(records)
+                .succeeded(matched)
+                .failed(records - matched)
+                .build());
+    }
+
+    private AsDocument extractDocumentFromObject(String key, String eTag, Long size, String contentType) {
         return AsDocument.builder()
-            .id(documentId)
-            .filePath(s3Object.getKey())
-            .fileHash(s3Object.getETag())
-            .sizeInBytes(s3Object.getSize())
-            .contentType(s3Object.getContentType())
+            .id(StorageKeys.documentIdOf(key))
+            .filePath(key)
+            .fileHash(normalizeFileHash(eTag))
+            .sizeInBytes(size)
+            .contentType(contentType)
             .status(DocumentStatus.UPLOADED)
             .build();
     }
 
-    private String extractDocumentIdFromKey(String filePath) {
-        String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
-        return fileName.contains(".") 
-            ? fileName.substring(0, fileName.lastIndexOf('.')) 
-            : fileName;
+    private Mono<Void> recordCompletedUploads(Map<String, AsDocument> pending, List<AsDocument> uploads) {
+        List<AsDocument> before = new ArrayList<>();
+        List<AsDocument> after = new ArrayList<>();
+        for (AsDocument upload : uploads) {
+            AsDocument existing = pending.remove(upload.getId());
+            if (existing == null) {
+                continue;
+            }
+            before.add(existing);
+            after.add(statsView(existing.getOwnerId(), upload.getStatus(),
+                    upload.getContentType() != null ? upload.getContentType() : existing.getContentType(),
+                    upload.getSizeInBytes() != null ? upload.getSizeInBytes() : existing.getSizeInBytes()));
+            publishStatus(upload.getId(), existing.getOwnerId(), String.valueOf(upload.getStatus()));
+        }
+        return documentStatsService.recordReplaced(before, after);
     }
 
+    /**
+     * The pending documents as they look once the matching uploads are applied.
+     */
+    private static List<AsDocument> completedUploads(Map<String, AsDocument> pending, List<AsDocument> uploads) {
+        return uploads.stream()
+            .filter(upload -> pending.containsKey(upload.getId()))
+            .map(upload -> {
+                AsDocument existing = pending.get(upload.getId());
+                return AsDocument.builder()
+                    .id(upload.getId())
+                    .ownerId(existing.getOwnerId())
+                    .uploadDate(existing.getUploadDate())
+                    .filePath(upload.getFilePath())
+                    .fileHash(upload.getFileHash())
+                    .status(upload.getStatus())
+                    .build();
+            })
+            .toList();
+    }
+
+    /**
+     * Points newly uploaded documents whose content the owner already stored at the older copy
+     * and deletes the redundant objects. Only documents newer than the copy are linked, so two
+     * identical uploads completing at the same time never link to each other.
+     */
+    private Mono<Void> linkDuplicates(List<AsDocument> completed) {
+        if (!deduplicationEnabled) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(completed)
+            .filter(document -> document.getFileHash() != null && document.getFilePath() != null)
+            .flatMap(document -> findStoredCopy(document.getOwnerId(), document.getFileHash(), document.getId())
+                .filter(copy -> OLDEST_FIRST.compare(copy, document) < 0
+                    && !copy.getFilePath().equals(document.getFilePath()))
+                // the redundant object is deleted unless another document already points at it
+                .flatMap(copy -> deletedEvents(List.of(document), true)
+                    .flatMap(events -> domainEventOutbox.transactional(
+                        documentOperations.linkFile(document.getId(), copy.getFilePath())
+                            .flatMap(linked -> domainEventOutbox.publish(DOCUMENT_DELETED_ROUTING_KEY, events)
+                                .thenReturn(linked)))))
+                .doOnNext(linked -> {
+                    postUploadDuplicates.increment();
+                    documentMetadataCache.evict(linked.getId());
+                    downloadUrlCache.invalidate(document.getFilePath());
+                    log.info("Linked document {} to stored file {} with the same content", linked.getId(),
+                        linked.getFilePath());
+                })
+                .onErrorResume(error -> {
+                    log.warn("Failed to deduplicate document {}: {}", document.getId(), error.getMessage());
+                    return Mono.empty();
+                }), recordConcurrency)
+            .then();
+    }
+
+    /**
+     * Storage ETags may arrive quoted and in either case.
+     */
+    private static String normalizeFileHash(String fileHash) {
+        if (fileHash == null) {
+            return null;
+        }
+        String normalized = fileHash.trim().replace("\"", "").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * Document carrying only the fields that {@link io.aurasage.document.repository.DocumentStats} counts.
+     */
+    private static AsDocument statsView(String ownerId, DocumentStatus status, String contentType, Long sizeInBytes) {
+        return AsDocument.builder()
+            .ownerId(ownerId)
+            .status(status)
+            .contentType(contentType)
+            .sizeInBytes(sizeInBytes)
+            .build();
+    }
+
+
     
 
 }
@@ -0,0 +1,169 @@
+package io.aurasage.document.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.document.dto.DocumentStatsResponse;
+import io.aurasage.document.repository.DocumentOperations;
+import io.aurasage.document.repository.DocumentStats;
+import io.aurasage.document.repository.DocumentStatsStore;
+import io.aurasage.document.repository.JobLockStore;
+import io.aurasage.document.service.DocumentStatsService;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves per-owner statistics from incrementally maintained counters.
+ *
+ * <p>Counters are updated after each write and are not transactional with it; failed or
+ * racing updates are corrected by the periodic reconciliation, which recomputes every
+ * owner's counters from the documents. Owners without counters are computed on first read,
+ * and updates for them are skipped until then. A recomputation only replaces counters that
+ * no update has touched since it started.</p>
+ *
+ * <p>The scheduled reconciliation runs on one instance at a time, guarded by a lease lock.
+ * With a node-local stats store, as used for non-MongoDB adapters, the lock is node-local
+ * too: every node keeps and reconciles its own counters, which only see writes made on that
+ * node until its next reconciliation.</p>
+ */
+@Slf4j
+@Service
+public class DocumentStatsServiceImpl implements DocumentStatsService {
+
+    static final String LOCK_NAME = "document-stats-reconciler";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final DocumentStatsStore documentStatsStore;
+    private final DocumentOperations documentOperations;
+    private final JobLockStore jobLockStore;
+
+    @Value("${aurasage.document.stats.reconcile-enabled:true}")
+    private boolean reconcileEnabled;
+
+    @Value("${aurasage.document.stats.reconcile-concurrency:4}")
+    private int reconcileConcurrency;
+
+    @Value("${aurasage.document.stats.reconcile-lock-lease:PT30M}")
+    private Duration reconcileLockLease;
+
+    public DocumentStatsServiceImpl(DocumentStatsStore documentStatsStore, DocumentOperations documentOperations,
+            JobLockStore jobLockStore) {
+        this.documentStatsStore = documentStatsStore;
+        this.documentOperations = documentOperations;
+        this.jobLockStore = jobLockStore;
+    }
+
+    @Override
+    public Mono<DocumentStatsResponse> getStats(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("User ID cannot be null or empty"));
+        }
+
+        return getUsage(userId)
+                .map(stats -> DocumentStatsResponse.builder()
+                        .documentCount(stats.documentCount())
+                        .totalBytes(stats.totalBytes())
+                        .byStatus(stats.byStatus())
+                        .byContentType(stats.byContentType())
+                        .build())
+                .doOnError(error -> log.error("Error retrieving document stats for user {}: {}", userId,
+                        error.getMessage()));
+    }
+
+    @Override
+    public Mono<DocumentStats> getUsage(String userId) {
+        return documentStatsStore.findByOwnerId(userId)
+                .switchIfEmpty(Mono.defer(() -> recompute(userId)));
+    }
+
+    @Override
+    public Mono<Void> recordAdded(Collection<AsDocument> documents) {
+        return recordReplaced(List.of(), documents);
+    }
+
+    @Override
+    public Mono<Void> recordRemoved(Collection<AsDocument> documents) {
+        return recordReplaced(documents, List.of());
+    }
+
+    @Override
+    public Mono<Void> recordReplaced(Collection<AsDocument> before, Collection<AsDocument> after) {
+        // one combined delta, and so one counter update, per owner
+        Map<String, DocumentStats> deltas = Stream.concat(
+                        before.stream()
+                                .filter(document -> document.getOwnerId() != null)
+                                .map(document -> Map.entry(document.getOwnerId(), DocumentStats.of(document).negate())),
+                        after.stream()
+                                .filter(document -> document.getOwnerId() != null)
+                                .map(document -> Map.entry(document.getOwnerId(), DocumentStats.of(document))))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, DocumentStats::plus));
+
+        return Flux.fromIterable(deltas.entrySet())
+                .flatMap(delta -> apply(delta.getKey(), delta.getValue()))
+                .then();
+    }
+
+    private Mono<Void> apply(String userId, DocumentStats delta) {
+        return documentStatsStore.add(userId, delta)
+                .onErrorResume(error -> {
+                    log.warn("Failed to update document stats for user {}, left to reconciliation: {}", userId,
+                            error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<DocumentStats> recompute(String userId) {
+        return documentStatsStore.findVersion(userId)
+                .flatMap(version -> documentOperations.aggregateStatsByOwnerId(userId)
+                        .flatMap(stats -> documentStatsStore.replace(userId, stats, version)
+                                .doOnNext(replaced -> {
+                                    if (!replaced) {
+                                        log.debug("Document stats of user {} changed while recomputing, kept them",
+                                                userId);
+                                    }
+                                })
+                                .thenReturn(stats)));
+    }
+
+    @Override
+    public Mono<Long> reconcile() {
+        return documentStatsStore.findAllOwnerIds()
+                .flatMap(userId -> recompute(userId)
+                        .onErrorResume(error -> {
+                            log.warn("Failed to reconcile document stats for user {}: {}", userId, error.getMessage());
+                            return Mono.empty();
+                        }), reconcileConcurrency)
+                .count();
+    }
+
+    @Scheduled(initialDelayString = "${aurasage.document.stats.reconcile-initial-delay:PT5M}",
+            fixedDelayString = "${aurasage.document.stats.reconcile-interval:PT1H}")
+    public Mono<Void> reconcileOnSchedule() {
+        if (!reconcileEnabled) {
+            return Mono.empty();
+        }
+        return jobLockStore.tryAcquire(LOCK_NAME, instanceId, reconcileLockLease)
+                .filter(acquired -> acquired)
+                .flatMap(acquired -> reconcile()
+                        .flatMap(count -> jobLockStore.release(LOCK_NAME, instanceId).thenReturn(count))
+                        .onErrorResume(error -> jobLockStore.release(LOCK_NAME, instanceId).then(Mono.error(error))))
+                .doOnNext(count -> log.info("Reconciled document stats of {} users", count))
+                .onErrorResume(error -> {
+                    log.error("Document stats reconciliation failed: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+}
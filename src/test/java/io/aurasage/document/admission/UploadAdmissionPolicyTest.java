@@ -0,0 +1,130 @@
+package io.aurasage.document.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.aurasage.document.dto.DocumentRequest;
+import io.aurasage.document.repository.DocumentStats;
+import io.aurasage.document.service.DocumentStatsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class UploadAdmissionPolicyTest {
+
+    private final DocumentStatsService documentStatsService = mock(DocumentStatsService.class);
+
+    @Test
+    void rejectsInvalidRequestsWithoutIo() {
+        UploadAdmissionPolicy policy = policy(0, DataSize.ofBytes(0));
+
+        assertThat(status(policy, request(" ", 10))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status(policy, request("a.pdf", 0))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(status(policy, request("a.pdf", DataSize.ofMegabytes(101).toBytes())))
+                .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(policy.validate(request("a.pdf", DataSize.ofMegabytes(101).toBytes()), true)).isEmpty();
+        DocumentRequest executable = request("a.exe", 10);
+        executable.setContentType("application/x-msdownload");
+        assertThat(status(policy, executable)).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        assertThat(policy.validate(request("a.pdf", 10))).isEmpty();
+    }
+
+    @Test
+    void admitsABatchUpToTheQuota() {
+        when(documentStatsService.getUsage("user-1")).thenReturn(Mono.just(usage(8, 0)));
+        UploadAdmissionPolicy policy = policy(10, DataSize.ofBytes(0));
+
+        Integer admitted = policy.reserve("user-1", List.of(request("a.pdf", 1), request("b.pdf", 1),
+                request("c.pdf", 1))).block();
+
+        assertThat(admitted).isEqualTo(2);
+        assertThat(policy.reserve("user-1", List.of(request("d.pdf", 1))).block()).isZero();
+    }
+
+    @Test
+    void concurrentReservationsNeverOvershootTheQuota() throws Exception {
+        when(documentStatsService.getUsage("user-1")).thenReturn(Mono.just(DocumentStats.EMPTY));
+        UploadAdmissionPolicy policy = policy(0, DataSize.ofBytes(1_000));
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Integer>> reservations = IntStream.range(0, 64)
+                    .mapToObj(i -> callers.submit(() -> policy.reserve("user-1", List.of(request(i + ".pdf", 100)))
+                            .block()))
+                    .toList();
+            int admitted = 0;
+            for (Future<Integer> reservation : reservations) {
+                admitted += reservation.get();
+            }
+
+            assertThat(admitted).isEqualTo(10);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasedReservationsCanBeAdmittedAgain() {
+        when(documentStatsService.getUsage("user-1")).thenReturn(Mono.just(usage(9, 0)));
+        UploadAdmissionPolicy policy = policy(10, DataSize.ofBytes(0));
+        DocumentRequest request = request("a.pdf", 1);
+
+        assertThat(policy.reserve("user-1", List.of(request)).block()).isEqualTo(1);
+        assertThat(policy.reserve("user-1", List.of(request("b.pdf", 1))).block()).isZero();
+
+        policy.release("user-1", List.of(request));
+
+        assertThat(policy.reserve("user-1", List.of(request("b.pdf", 1))).block()).isEqualTo(1);
+        verify(documentStatsService, times(1)).getUsage("user-1");
+    }
+
+    @Test
+    void unlimitedByDefaultWithoutReadingUsage() {
+        UploadAdmissionPolicy policy = policy(0, DataSize.ofBytes(0));
+
+        assertThat(policy.reserve("user-1", List.of(request("a.pdf", 1), request("b.pdf", 1))).block())
+                .isEqualTo(2);
+        verify(documentStatsService, times(0)).getUsage("user-1");
+    }
+
+    private UploadAdmissionPolicy policy(long maxDocuments, DataSize maxBytes) {
+        return new UploadAdmissionPolicy(documentStatsService, new SimpleMeterRegistry(), true,
+                DataSize.ofMegabytes(100), DataSize.ofGigabytes(50), List.of("application/pdf"), 20, 64,
+                maxDocuments, maxBytes, Duration.ofMinutes(1), 100);
+    }
+
+    private static HttpStatus status(UploadAdmissionPolicy policy, DocumentRequest request) {
+        return policy.validate(request)
+                .map(ResponseStatusException::getStatusCode)
+                .map(code -> HttpStatus.valueOf(code.value()))
+                .orElse(null);
+    }
+
+    private static DocumentRequest request(String fileName, long sizeInBytes) {
+        DocumentRequest request = new DocumentRequest();
+        request.setFileName(fileName);
+        request.setSizeInBytes(sizeInBytes);
+        request.setContentType("application/pdf");
+        return request;
+    }
+
+    private static DocumentStats usage(long documents, long bytes) {
+        return new DocumentStats(documents, bytes, Map.of(), Map.of());
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.aurasage.document.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.document.event.CacheInvalidationPublisher;
+import io.aurasage.document.event.DocumentCacheInvalidatedEvent;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class DocumentMetadataCacheTest {
+
+    private final List<DocumentCacheInvalidatedEvent> published = new CopyOnWriteArrayList<>();
+    private final CountDownLatch publishedOnce = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DocumentMetadataCache cache = new DocumentMetadataCache(publisher(this::record),
+            new BlockingCalls(meterRegistry, "bounded-elastic", 0, Duration.ofSeconds(1)), meterRegistry, true, 100,
+            Duration.ofMinutes(1), Duration.ofSeconds(5), true);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void doesNotCacheLoadsThatOverlapAnInvalidationOfTheirKey() {
+        Sinks.One<AsDocument> load = Sinks.one();
+        Mono<AsDocument> inFlight = cache.get("a", id -> load.asMono()).cache();
+        inFlight.subscribe();
+
+        cache.evict("a");
+        load.tryEmitValue(document("a"));
+
+        assertThat(inFlight.block()).isNotNull();
+        cache.get("a", this::countingLoad).block();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void doesNotCacheASharedLoadJoinedAfterAnInvalidation() {
+        Sinks.One<AsDocument> load = Sinks.one();
+        Mono<AsDocument> first = cache.get("a", id -> load.asMono()).cache();
+        first.subscribe();
+
+        cache.evict("a");
+        Mono<AsDocument> joined = cache.get("a", this::countingLoad).cache();
+        joined.subscribe();
+        load.tryEmitValue(document("a"));
+
+        assertThat(joined.block()).isNotNull();
+        assertThat(loads).hasValue(0);
+        cache.get("a", this::countingLoad).block();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void cachesLoadsThatOverlapInvalidationsOfOtherKeys() {
+        Sinks.One<AsDocument> load = Sinks.one();
+        Mono<AsDocument> inFlight = cache.get("a", id -> load.asMono()).cache();
+        inFlight.subscribe();
+
+        cache.evict("b");
+        load.tryEmitValue(document("a"));
+
+        assertThat(inFlight.block()).isNotNull();
+        cache.get("a", this::countingLoad).block();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void broadcastsLocalEvictionsButNotReceivedOnes() throws InterruptedException {
+        cache.evict(List.of("a", "b"));
+        cache.onInvalidated(new DocumentCacheInvalidatedEvent("other-instance", List.of("c")));
+
+        assertThat(publishedOnce.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(published).singleElement()
+                .extracting(DocumentCacheInvalidatedEvent::documentIds)
+                .isEqualTo(List.of("a", "b"));
+    }
+
+    private void record(DocumentCacheInvalidatedEvent event) {
+        published.add(event);
+        publishedOnce.countDown();
+    }
+
+    private Mono<AsDocument> countingLoad(String documentId) {
+        loads.incrementAndGet();
+        return Mono.just(document(documentId));
+    }
+
+    private static AsDocument document(String id) {
+        return AsDocument.builder().id(id).ownerId("user-1").build();
+    }
+
+    private static ObjectProvider<CacheInvalidationPublisher> publisher(
+            CacheInvalidationPublisher publisher) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("cacheInvalidationPublisher", publisher);
+        return beanFactory.getBeanProvider(CacheInvalidationPublisher.class);
+    }
+
+}
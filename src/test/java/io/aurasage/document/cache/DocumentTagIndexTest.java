@@ -0,0 +1,144 @@
+package io.aurasage.document.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.aurasage.document.repository.DocumentTags;
+import io.aurasage.document.repository.impl.InMemoryDocumentTagStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class DocumentTagIndexTest {
+
+    private static final String OWNER_ID = "user-1";
+    private static final String OTHER_OWNER_ID = "user-2";
+
+    private final GatedTagStore documentTagStore = new GatedTagStore();
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void matchesAllTags(boolean indexed) {
+        DocumentTagIndex index = index(indexed);
+        saveSampleTags();
+
+        assertThat(index.findDocumentIds(OWNER_ID, Set.of("invoice", "2024"), true).collectList().block())
+                .containsExactly("a");
+        assertThat(index.findDocumentIds(OWNER_ID, Set.of("invoice", "missing"), true).collectList().block())
+                .isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void matchesAnyTag(boolean indexed) {
+        DocumentTagIndex index = index(indexed);
+        saveSampleTags();
+
+        assertThat(index.findDocumentIds(OWNER_ID, Set.of("2024", "contract"), false).collectList().block())
+                .containsExactlyInAnyOrder("a", "c");
+        assertThat(index.findDocumentIds(OTHER_OWNER_ID, Set.of("invoice"), false).collectList().block())
+                .containsExactly("d");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void seesTagsWrittenAfterAnInvalidation(boolean indexed) {
+        DocumentTagIndex index = index(indexed);
+        saveSampleTags();
+        assertThat(index.findDocumentIds(OWNER_ID, Set.of("receipt"), false).collectList().block()).isEmpty();
+
+        save("e", OWNER_ID, "receipt");
+        index.invalidate(OWNER_ID);
+
+        assertThat(index.findDocumentIds(OWNER_ID, Set.of("receipt"), false).collectList().block())
+                .containsExactly("e");
+    }
+
+    @Test
+    void cachesABuildThatRacedOnlyWithAnotherOwnersInvalidation() {
+        DocumentTagIndex index = index(true);
+        saveSampleTags();
+        Sinks.Empty<Void> gate = documentTagStore.gate(OWNER_ID);
+
+        // the second subscription only builds again when the first build was not cached
+        Mono<List<String>> query = index.findDocumentIds(OWNER_ID, Set.of("invoice"), false).collectList();
+        query.subscribe();
+        index.invalidate(OTHER_OWNER_ID);
+        gate.tryEmitEmpty();
+
+        query.block();
+        assertThat(documentTagStore.builds(OWNER_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheABuildThatRacedWithItsOwnersInvalidation() {
+        DocumentTagIndex index = index(true);
+        saveSampleTags();
+        Sinks.Empty<Void> gate = documentTagStore.gate(OWNER_ID);
+
+        // the second subscription only builds again when the first build was not cached
+        Mono<List<String>> query = index.findDocumentIds(OWNER_ID, Set.of("invoice"), false).collectList();
+        query.subscribe();
+        index.invalidate(OWNER_ID);
+        gate.tryEmitEmpty();
+
+        query.block();
+        assertThat(documentTagStore.builds(OWNER_ID)).isEqualTo(2);
+    }
+
+    private DocumentTagIndex index(boolean enabled) {
+        return new DocumentTagIndex(documentTagStore, new SimpleMeterRegistry(), enabled, 1000,
+                Duration.ofMinutes(1), 100);
+    }
+
+    private void saveSampleTags() {
+        save("a", OWNER_ID, "invoice", "2024");
+        save("b", OWNER_ID, "invoice");
+        save("c", OWNER_ID, "contract");
+        save("d", OTHER_OWNER_ID, "invoice", "2024");
+    }
+
+    private void save(String documentId, String ownerId, String... tags) {
+        documentTagStore.saveAll(List.of(new DocumentTags(documentId, ownerId, Set.of(tags)))).block();
+    }
+
+    /**
+     * Counts index builds per owner and can hold a build back until its gate opens.
+     */
+    private static class GatedTagStore extends InMemoryDocumentTagStore {
+
+        private final Map<String, Sinks.Empty<Void>> gates = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> builds = new ConcurrentHashMap<>();
+
+        Sinks.Empty<Void> gate(String ownerId) {
+            Sinks.Empty<Void> gate = Sinks.empty();
+            gates.put(ownerId, gate);
+            return gate;
+        }
+
+        int builds(String ownerId) {
+            return builds.getOrDefault(ownerId, new AtomicInteger()).get();
+        }
+
+        @Override
+        public Flux<DocumentTags> findAllByOwnerId(String ownerId) {
+            builds.computeIfAbsent(ownerId, key -> new AtomicInteger()).incrementAndGet();
+            Sinks.Empty<Void> gate = gates.remove(ownerId);
+            Flux<DocumentTags> tags = super.findAllByOwnerId(ownerId);
+            return gate == null ? tags : gate.asMono().thenMany(tags);
+        }
+
+    }
+
+}
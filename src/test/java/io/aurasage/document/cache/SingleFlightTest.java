@@ -0,0 +1,106 @@
+package io.aurasage.document.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true, meterRegistry);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Sinks.One<String> result = Sinks.one();
+
+    @Test
+    void coalescesConcurrentCallsForTheSameKey() {
+        Mono<String> first = singleFlight.execute("a", this::call);
+        Mono<String> second = singleFlight.execute("a", this::call);
+        AtomicReference<String> firstValue = new AtomicReference<>();
+        AtomicReference<String> secondValue = new AtomicReference<>();
+        first.subscribe(firstValue::set);
+        second.subscribe(secondValue::set);
+
+        result.tryEmitValue("value");
+
+        assertThat(calls).hasValue(1);
+        assertThat(firstValue).hasValue("value");
+        assertThat(secondValue).hasValue("value");
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCoalesceDifferentKeys() {
+        singleFlight.execute("a", this::call).subscribe();
+        singleFlight.execute("b", this::call).subscribe();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void startsANewCallOnceThePreviousOneTerminated() {
+        result.tryEmitValue("value");
+        StepVerifier.create(singleFlight.execute("a", this::call)).expectNext("value").verifyComplete();
+        StepVerifier.create(singleFlight.execute("a", this::call)).expectNext("value").verifyComplete();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void sharesErrorsWithoutRetainingThem() {
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        AtomicReference<Throwable> secondError = new AtomicReference<>();
+        singleFlight.execute("a", this::call).subscribe(value -> { }, firstError::set);
+        singleFlight.execute("a", this::call).subscribe(value -> { }, secondError::set);
+
+        result.tryEmitError(new IllegalStateException("storage unavailable"));
+
+        assertThat(firstError.get()).hasMessage("storage unavailable");
+        assertThat(secondError.get()).isSameAs(firstError.get());
+        singleFlight.execute("a", this::call).subscribe(value -> { }, error -> { });
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotCancelTheSharedCall() {
+        Disposable first = singleFlight.execute("a", this::call).subscribe();
+        AtomicReference<String> secondValue = new AtomicReference<>();
+        singleFlight.execute("a", this::call).subscribe(secondValue::set);
+
+        first.dispose();
+        result.tryEmitValue("value");
+
+        assertThat(calls).hasValue(1);
+        assertThat(secondValue).hasValue("value");
+    }
+
+    @Test
+    void callsThroughWhenDisabled() {
+        SingleFlight<String, String> disabled = new SingleFlight<>("disabled", false, meterRegistry);
+
+        disabled.execute("a", this::call).subscribe();
+        disabled.execute("a", this::call).subscribe();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    private Mono<String> call(String key) {
+        calls.incrementAndGet();
+        return result.asMono();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("aurasage.document.single-flight.calls", "operation", "test", "result", result)
+                .count();
+    }
+
+}
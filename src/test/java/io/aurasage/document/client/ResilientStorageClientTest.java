@@ -0,0 +1,137 @@
+package io.aurasage.document.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ResilientStorageClientTest {
+
+    private static final String KEY = "user-1/a.pdf";
+
+    private final StorageClient delegate = mock(StorageClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void retriesTransientFailuresOfIdempotentCalls() {
+        when(delegate.exists(KEY)).thenReturn(Mono.error(unavailable()), Mono.error(unavailable()), Mono.just(true));
+
+        StepVerifier.create(client(Duration.ofSeconds(5), null).exists(KEY)).expectNext(true).verifyComplete();
+
+        verify(delegate, times(3)).exists(KEY);
+        assertThat(count("aurasage.storage.client.retries", ResilientStorageClient.EXISTS)).isEqualTo(2);
+    }
+
+    @Test
+    void givesUpWithTheLastFailureOnceRetriesAreExhausted() {
+        when(delegate.exists(KEY)).thenReturn(Mono.error(unavailable()));
+
+        StepVerifier.create(client(Duration.ofSeconds(5), null).exists(KEY))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+
+        verify(delegate, times(3)).exists(KEY);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        when(delegate.exists(KEY)).thenReturn(Mono.error(WebClientResponseException.create(404, "Not Found",
+                null, null, null)));
+
+        StepVerifier.create(client(Duration.ofSeconds(5), null).exists(KEY))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+
+        verify(delegate, times(1)).exists(KEY);
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentCalls() {
+        MultipartUploadInit request = mock(MultipartUploadInit.class);
+        when(delegate.initiateMultipartUpload(request)).thenReturn(Mono.error(unavailable()));
+
+        StepVerifier.create(client(Duration.ofSeconds(5), null).initiateMultipartUpload(request))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+
+        verify(delegate, times(1)).initiateMultipartUpload(request);
+    }
+
+    @Test
+    void hedgesASlowReadWithASecondAttempt() {
+        when(delegate.generateDownloadUrl(KEY)).thenReturn(Mono.never(), Mono.just("https://storage/hedged"));
+
+        StepVerifier.create(client(Duration.ofSeconds(5), Duration.ofMillis(50)).generateDownloadUrl(KEY))
+                .expectNext("https://storage/hedged")
+                .verifyComplete();
+
+        verify(delegate, times(2)).generateDownloadUrl(KEY);
+        assertThat(count("aurasage.storage.client.hedges", ResilientStorageClient.DOWNLOAD_URL)).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotHedgeAFastRead() {
+        when(delegate.generateDownloadUrl(KEY)).thenReturn(Mono.just("https://storage/first"));
+
+        StepVerifier.create(client(Duration.ofSeconds(5), Duration.ofMillis(200)).generateDownloadUrl(KEY))
+                .expectNext("https://storage/first")
+                .verifyComplete();
+
+        verify(delegate, times(1)).generateDownloadUrl(KEY);
+        assertThat(count("aurasage.storage.client.hedges", ResilientStorageClient.DOWNLOAD_URL)).isZero();
+    }
+
+    @Test
+    void boundsAllAttemptsByTheDeadline() {
+        when(delegate.exists(KEY)).thenReturn(Mono.never());
+
+        StepVerifier.create(client(Duration.ofMillis(100), null).exists(KEY))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void givesOperationsWithALongerTimeoutThatMuchTime() {
+        MultipartUploadCompletion request = mock(MultipartUploadCompletion.class);
+        when(delegate.completeMultipartUpload(request)).thenReturn(Mono.delay(Duration.ofMillis(300)).then());
+        ResilientStorageClient client = client(Duration.ofMillis(100),
+                Map.of(ResilientStorageClient.MULTIPART_COMPLETE, Duration.ofSeconds(5)), null);
+
+        StepVerifier.create(client.completeMultipartUpload(request)).verifyComplete();
+    }
+
+    private ResilientStorageClient client(Duration deadline, Duration hedgeDelay) {
+        return client(deadline, Map.of(), hedgeDelay);
+    }
+
+    private ResilientStorageClient client(Duration deadline, Map<String, Duration> operationTimeouts,
+            Duration hedgeDelay) {
+        return new ResilientStorageClient(delegate, CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                meterRegistry, 2, Duration.ofMillis(1), 0.5, deadline, operationTimeouts, hedgeDelay,
+                Set.of(ResilientStorageClient.DOWNLOAD_URL));
+    }
+
+    private double count(String metric, String operation) {
+        return meterRegistry.counter(metric, "operation", operation).count();
+    }
+
+    private static WebClientResponseException unavailable() {
+        return WebClientResponseException.create(503, "Service Unavailable", null, null, null);
+    }
+
+}
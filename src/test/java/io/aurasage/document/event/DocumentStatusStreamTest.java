@@ -0,0 +1,97 @@
+package io.aurasage.document.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.aurasage.document.dto.DocumentStatusEvent;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.test.StepVerifier;
+
+class DocumentStatusStreamTest {
+
+    private static final String OWNER_ID = "user-1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<DocumentStatusChangedEvent> broadcast = new CopyOnWriteArrayList<>();
+
+    @Test
+    void pushesChangesAppliedOnOtherReplicasToLocalSubscribers() {
+        DocumentStatusStream stream = stream(null);
+        DocumentStatusChangedEvent remote = new DocumentStatusChangedEvent("other-instance", "a", OWNER_ID,
+                "UPLOADED", Instant.parse("2024-01-15T10:30:00Z"));
+
+        StepVerifier.create(stream.subscribe(OWNER_ID))
+                .then(() -> stream.onBroadcast(remote))
+                .assertNext(event -> {
+                    assertThat(event.getId()).isEqualTo("a");
+                    assertThat(event.getStatus()).isEqualTo("UPLOADED");
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void broadcastsLocalChangesAndSkipsItsOwnCopy() {
+        CountDownLatch sent = new CountDownLatch(1);
+        DocumentStatusStream stream = stream(changed -> {
+            broadcast.add(changed);
+            sent.countDown();
+        });
+
+        StepVerifier.create(stream.subscribe(OWNER_ID))
+                .then(() -> stream.publish(event("a")))
+                .assertNext(event -> assertThat(event.getId()).isEqualTo("a"))
+                .then(() -> {
+                    // broadcasts are sent off the calling thread
+                    awaitQuietly(sent);
+                    assertThat(broadcast).singleElement().satisfies(changed -> {
+                        assertThat(changed.documentId()).isEqualTo("a");
+                        assertThat(changed.ownerId()).isEqualTo(OWNER_ID);
+                    });
+                    stream.onBroadcast(broadcast.get(0));
+                })
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private DocumentStatusStream stream(StatusEventPublisher publisher) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (publisher != null) {
+            beanFactory.addBean("statusEventPublisher", publisher);
+        }
+        ObjectProvider<StatusEventPublisher> provider = beanFactory.getBeanProvider(StatusEventPublisher.class);
+        BlockingCalls blockingCalls = new BlockingCalls(meterRegistry, "bounded-elastic", 0, Duration.ofSeconds(1));
+        return new DocumentStatusStream(provider, blockingCalls, meterRegistry, 16, Duration.ofMillis(100));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DocumentStatusEvent event(String id) {
+        return DocumentStatusEvent.builder()
+                .id(id)
+                .ownerId(OWNER_ID)
+                .status("UPLOADED")
+                .timestamp(Instant.now())
+                .build();
+    }
+
+}
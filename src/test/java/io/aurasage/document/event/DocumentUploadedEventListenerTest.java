@@ -0,0 +1,180 @@
+package io.aurasage.document.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.aurasage.document.dto.UploadProcessingResult;
+import io.aurasage.document.service.DocumentService;
+import io.aurasage.document.support.StorageEvents;
+import io.aurasage.events.dto.StorageEvent;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class DocumentUploadedEventListenerTest {
+
+    private static final int BURST = 16;
+
+    private final DocumentService documentService = mock(DocumentService.class);
+    private final DocumentUploadedEventListener listener = new DocumentUploadedEventListener(documentService);
+    private final ExecutorService consumers = Executors.newFixedThreadPool(4);
+
+    @BeforeEach
+    void start() {
+        ReflectionTestUtils.setField(listener, "batchSize", 3);
+        ReflectionTestUtils.setField(listener, "batchWindow", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(listener, "maxConcurrency", 2);
+        ReflectionTestUtils.setField(listener, "prefetch", 16);
+        ReflectionTestUtils.setField(listener, "enqueueTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(listener, "writeTimeout", Duration.ofSeconds(5));
+        listener.start();
+    }
+
+    @AfterEach
+    void stop() {
+        listener.stop();
+        consumers.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void groupsConcurrentEventsIntoOneBatch() throws Exception {
+        when(documentService.processDocumentUploadedEvents(anyList())).thenReturn(Mono.just(result(3)));
+
+        List<Future<?>> consumed = IntStream.range(0, 3)
+                .<Future<?>>mapToObj(i -> consumers.submit(
+                        () -> listener.consume(StorageEvents.uploaded(List.of("user-1/" + i)))))
+                .toList();
+        for (Future<?> future : consumed) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        ArgumentCaptor<List<StorageEvent>> batch = ArgumentCaptor.forClass(List.class);
+        verify(documentService).processDocumentUploadedEvents(batch.capture());
+        assertThat(batch.getValue()).hasSize(3);
+    }
+
+    @Test
+    void acknowledgesOnlyAfterTheBatchIsWritten() throws Exception {
+        ReflectionTestUtils.setField(listener, "batchSize", 1);
+        listener.stop();
+        listener.start();
+        Sinks.One<UploadProcessingResult> write = Sinks.one();
+        when(documentService.processDocumentUploadedEvents(anyList())).thenReturn(write.asMono());
+
+        Future<?> consumed = consumers.submit(() -> listener.consume(StorageEvents.uploaded(List.of("user-1/a"))));
+
+        assertThatThrownBy(() -> consumed.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        write.tryEmitValue(result(1));
+        consumed.get(5, TimeUnit.SECONDS);
+        assertThat(consumed).isDone();
+    }
+
+    @Test
+    void failsTheMessageWhenTheWriteFails() {
+        ReflectionTestUtils.setField(listener, "batchSize", 1);
+        listener.stop();
+        listener.start();
+        when(documentService.processDocumentUploadedEvents(anyList()))
+                .thenReturn(Mono.error(new IllegalStateException("write failed")));
+
+        assertThatThrownBy(() -> listener.consume(StorageEvents.uploaded(List.of("user-1/a"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Upload event processing failed");
+    }
+
+    @Test
+    void holdsConsumersBackWhileTheBufferIsFull() throws Exception {
+        Sinks.One<UploadProcessingResult> write = fillableBuffer();
+        ExecutorService burst = Executors.newFixedThreadPool(BURST);
+
+        try {
+            List<Future<?>> consumed = consumeBurst(burst);
+            Thread.sleep(300);
+            write.tryEmitValue(result(1));
+
+            for (Future<?> future : consumed) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            burst.shutdownNow();
+        }
+    }
+
+    @Test
+    void failsMessagesThatCannotBeQueuedWithinTheEnqueueTimeout() throws Exception {
+        fillableBuffer();
+        ReflectionTestUtils.setField(listener, "enqueueTimeout", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(listener, "writeTimeout", Duration.ofSeconds(1));
+        ExecutorService burst = Executors.newFixedThreadPool(BURST);
+
+        try {
+            long notQueued = 0;
+            for (Future<?> future : consumeBurst(burst)) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    if (e.getCause().getMessage().startsWith("Upload event could not be queued")) {
+                        notQueued++;
+                    }
+                }
+            }
+            assertThat(notQueued).isPositive();
+        } finally {
+            burst.shutdownNow();
+        }
+    }
+
+    @Test
+    void ignoresEventsOtherThanUploads() {
+        listener.consume(StorageEvents.of("s3:ObjectRemoved:Delete", List.of("user-1/a")));
+
+        verify(documentService, never()).processDocumentUploadedEvents(anyList());
+    }
+
+    /**
+     * Restarts the listener with a two-slot buffer behind a write that completes when released.
+     */
+    private Sinks.One<UploadProcessingResult> fillableBuffer() {
+        ReflectionTestUtils.setField(listener, "batchSize", 1);
+        ReflectionTestUtils.setField(listener, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(listener, "prefetch", 2);
+        listener.stop();
+        listener.start();
+        Sinks.One<UploadProcessingResult> write = Sinks.one();
+        when(documentService.processDocumentUploadedEvents(anyList())).thenReturn(write.asMono());
+        return write;
+    }
+
+    private List<Future<?>> consumeBurst(ExecutorService burst) {
+        return IntStream.range(0, BURST)
+                .<Future<?>>mapToObj(i -> burst.submit(
+                        () -> listener.consume(StorageEvents.uploaded(List.of("user-1/" + i)))))
+                .toList();
+    }
+
+    private static UploadProcessingResult result(int records) {
+        return UploadProcessingResult.builder().records(records).succeeded(records).build();
+    }
+
+}
@@ -0,0 +1,106 @@
+package io.aurasage.document.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.dto.CompletedPart;
+import io.aurasage.document.dto.DocumentRequest;
+import io.aurasage.document.dto.MultipartUploadPart;
+import io.aurasage.document.dto.MultipartUploadResponse;
+import io.aurasage.document.repository.MultipartUploadStore;
+import io.aurasage.document.support.DocumentServiceContext;
+import io.aurasage.document.support.StorageEvents;
+
+class MultipartUploadCompletionTest {
+
+    private static final String OWNER_ID = "user-1";
+
+    private final DocumentServiceContext context = new DocumentServiceContext(Map.of());
+    private final DocumentUploadedEventListener listener = new DocumentUploadedEventListener(context.documentService());
+
+    @BeforeEach
+    void start() {
+        ReflectionTestUtils.setField(listener, "batchSize", 1);
+        ReflectionTestUtils.setField(listener, "batchWindow", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(listener, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(listener, "prefetch", 16);
+        ReflectionTestUtils.setField(listener, "enqueueTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(listener, "writeTimeout", Duration.ofSeconds(5));
+        listener.start();
+    }
+
+    @AfterEach
+    void stop() {
+        listener.stop();
+        context.close();
+    }
+
+    @Test
+    void completedMultipartUploadTurnsDocumentUploaded() {
+        MultipartUploadResponse started = context.documentService().initMultipartUpload(largeFile(), OWNER_ID).block();
+        assertThat(status(started.getId())).isEqualTo(DocumentStatus.PENDING_UPLOAD);
+
+        List<CompletedPart> parts = IntStream.rangeClosed(1, started.getParts().size())
+                .mapToObj(partNumber -> new CompletedPart(partNumber, "\"etag-" + partNumber + "\""))
+                .toList();
+        context.documentService().completeMultipartUpload(started.getId(), parts, OWNER_ID).block();
+        assertThat(context.getBean(MultipartUploadStore.class).findByDocumentId(started.getId()).blockOptional())
+                .isEmpty();
+
+        // storage reports the assembled object with its own event name
+        listener.consume(StorageEvents.of("s3:ObjectCreated:CompleteMultipartUpload",
+                List.of(OWNER_ID + "/" + started.getId() + ".pdf")));
+
+        AsDocument document = context.documentRepository().findById(started.getId()).block();
+        assertThat(document.getStatus()).isEqualTo(DocumentStatus.UPLOADED);
+        assertThat(document.getFilePath()).isEqualTo(OWNER_ID + "/" + started.getId() + ".pdf");
+    }
+
+    @Test
+    void resumedMultipartUploadHandsOutFreshPartUrls() {
+        MultipartUploadResponse started = context.documentService().initMultipartUpload(largeFile(), OWNER_ID).block();
+        MultipartUploadStore multipartUploadStore = context.getBean(MultipartUploadStore.class);
+        Instant startedAt = multipartUploadStore.findByDocumentId(started.getId()).block().lastActiveAt();
+
+        MultipartUploadResponse resumed = context.documentService().resumeMultipartUpload(started.getId(), OWNER_ID)
+                .block();
+
+        assertThat(resumed.getPartSize()).isEqualTo(started.getPartSize());
+        assertThat(resumed.getParts()).extracting(MultipartUploadPart::getPartNumber)
+                .containsExactlyElementsOf(started.getParts().stream().map(MultipartUploadPart::getPartNumber).toList());
+        assertThat(multipartUploadStore.findByDocumentId(started.getId()).block().lastActiveAt())
+                .isAfterOrEqualTo(startedAt);
+        assertThatThrownBy(() -> context.documentService().resumeMultipartUpload(started.getId(), "user-2").block())
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        error -> assertThat(error.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    private static DocumentRequest largeFile() {
+        DocumentRequest request = new DocumentRequest();
+        request.setFileName("archive.pdf");
+        request.setContentType("application/pdf");
+        request.setSizeInBytes(DataSize.ofMegabytes(200).toBytes());
+        return request;
+    }
+
+    private DocumentStatus status(String documentId) {
+        return context.documentRepository().findById(documentId).block().getStatus();
+    }
+
+}
@@ -0,0 +1,149 @@
+package io.aurasage.document.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.aurasage.document.event.DomainEventOutbox;
+import io.aurasage.document.event.OutboxPublisher;
+import io.aurasage.document.metrics.DocumentPipelineMetrics;
+import io.aurasage.document.repository.OutboxEvent;
+import io.aurasage.document.repository.OutboxStore;
+import io.aurasage.document.repository.impl.InMemoryJobLockStore;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.aurasage.document.support.InMemoryEventBus;
+import io.aurasage.document.support.InMemoryOutboxStore;
+import io.aurasage.events.common.EventBus;
+import io.aurasage.events.dto.DocumentDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class OutboxRelayTest {
+
+    private static final String ROUTING_KEY = "document.deleted";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingCalls blockingCalls = new BlockingCalls(meterRegistry, "bounded-elastic", 0,
+            Duration.ofSeconds(1));
+    private final InMemoryOutboxStore outboxStore = new InMemoryOutboxStore();
+    private final TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void passThroughTransactions() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void publishesWrittenEventsAndRemovesThemOnceConfirmed() {
+        InMemoryEventBus eventBus = new InMemoryEventBus(true);
+        DomainEventOutbox outbox = outbox(eventBus);
+        DocumentDeletedEvent event = new DocumentDeletedEvent(UUID.randomUUID(), Instant.parse("2024-01-15T10:30:00Z"),
+                "a", "user-1/a.pdf");
+
+        outbox.transactional(outbox.publish(ROUTING_KEY, List.of(event))).block();
+
+        verify(transactionalOperator).transactional(any(Mono.class));
+        assertThat(outboxStore.events()).hasSize(1);
+        assertThat(eventBus.events()).isEmpty();
+
+        List<List<OutboxEvent>> batches = new CopyOnWriteArrayList<>();
+        assertThat(relay(outbox, batches::add).relay().block()).isEqualTo(1);
+
+        assertThat(batches).singleElement().satisfies(batch -> {
+            assertThat(batch).singleElement().extracting(OutboxEvent::routingKey).isEqualTo(ROUTING_KEY);
+            assertThat(outbox.payloadOf(batch.get(0))).isEqualTo(event);
+        });
+        assertThat(outboxStore.events()).isEmpty();
+    }
+
+    @Test
+    void keepsAndReschedulesBatchesTheBrokerDidNotConfirm() {
+        DomainEventOutbox outbox = outbox(new InMemoryEventBus());
+        outbox.publish(ROUTING_KEY, List.of("first", "second")).block();
+        OutboxRelay relay = relay(outbox, batch -> {
+            throw new IllegalStateException("nack");
+        });
+
+        assertThat(relay.relay().block()).isZero();
+
+        assertThat(outboxStore.events()).hasSize(2).allSatisfy(rescheduled -> {
+            assertThat(rescheduled.attempts()).isEqualTo(1);
+            assertThat(rescheduled.nextAttemptAt()).isAfter(Instant.now());
+        });
+        // not due again before the backoff elapsed
+        assertThat(relay.relay().block()).isZero();
+        assertThat(count("failed")).isEqualTo(2);
+    }
+
+    @Test
+    void dropsEventsThatCannotBeReadBack() {
+        DomainEventOutbox outbox = outbox(new InMemoryEventBus());
+        Instant now = Instant.now();
+        outboxStore.saveAll(List.of(new OutboxEvent("unreadable", ROUTING_KEY, "io.aurasage.document.Missing", "{}",
+                now, 0, now))).block();
+        List<List<OutboxEvent>> batches = new CopyOnWriteArrayList<>();
+
+        assertThat(relay(outbox, batches::add).relay().block()).isEqualTo(1);
+
+        assertThat(batches).isEmpty();
+        assertThat(outboxStore.events()).isEmpty();
+        assertThat(count("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void refusesAnOutboxStoreWithoutTransactions() {
+        assertThatThrownBy(() -> new DomainEventOutbox(provider(OutboxStore.class, outboxStore),
+                provider(TransactionalOperator.class, null), new InMemoryEventBus(), blockingCalls,
+                new ObjectMapper(), new DocumentPipelineMetrics(meterRegistry)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private DomainEventOutbox outbox(EventBus eventBus) {
+        return new DomainEventOutbox(provider(OutboxStore.class, outboxStore),
+                provider(TransactionalOperator.class, transactionalOperator), eventBus, blockingCalls,
+                new ObjectMapper().findAndRegisterModules(), new DocumentPipelineMetrics(meterRegistry));
+    }
+
+    private OutboxRelay relay(DomainEventOutbox outbox, OutboxPublisher publisher) {
+        OutboxRelay relay = new OutboxRelay(provider(OutboxStore.class, outboxStore), outbox,
+                provider(OutboxPublisher.class, publisher), blockingCalls, new InMemoryJobLockStore(), meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 5);
+        ReflectionTestUtils.setField(relay, "retryBackoff", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(relay, "maxRetryBackoff", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(relay, "lockLease", Duration.ofMinutes(1));
+        return relay;
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("aurasage.document.outbox.events", "result", result).count();
+    }
+
+    private static <T> ObjectProvider<T> provider(Class<T> type, T bean) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (bean != null) {
+            beanFactory.addBean(type.getSimpleName(), bean);
+        }
+        return beanFactory.getBeanProvider(type);
+    }
+
+}
@@ -0,0 +1,162 @@
+package io.aurasage.document.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.client.StorageClient;
+import io.aurasage.document.repository.DocumentCursor;
+import io.aurasage.document.repository.MultipartUpload;
+import io.aurasage.document.repository.PendingUploadQueries;
+import io.aurasage.document.repository.impl.InMemoryJobLockStore;
+import io.aurasage.document.repository.impl.InMemoryMultipartUploadStore;
+import io.aurasage.document.service.DocumentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class PendingUploadReaperTest {
+
+    private static final String OWNER_ID = "user-1";
+
+    private final PendingUploadQueries pendingUploadQueries = mock(PendingUploadQueries.class);
+    private final DocumentService documentService = mock(DocumentService.class);
+    private final StorageClient storageClient = mock(StorageClient.class);
+    private final InMemoryJobLockStore jobLockStore = new InMemoryJobLockStore();
+    private final InMemoryMultipartUploadStore multipartUploadStore = new InMemoryMultipartUploadStore();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PendingUploadReaper reaper = new PendingUploadReaper(pendingUploadQueries, documentService,
+            storageClient, jobLockStore, multipartUploadStore, meterRegistry);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(reaper, "enabled", true);
+        ReflectionTestUtils.setField(reaper, "maxAge", Duration.ofHours(24));
+        ReflectionTestUtils.setField(reaper, "pageSize", 2);
+        ReflectionTestUtils.setField(reaper, "maxPagesPerRun", 5);
+        ReflectionTestUtils.setField(reaper, "pageInterval", Duration.ZERO);
+        ReflectionTestUtils.setField(reaper, "checkStorage", false);
+        ReflectionTestUtils.setField(reaper, "storageCheckConcurrency", 1);
+        ReflectionTestUtils.setField(reaper, "lockLease", Duration.ofMinutes(1));
+        when(documentService.deletePendingUploads(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(0).size()));
+    }
+
+    @Test
+    void pagesFromTheLastDocumentUntilAShortPage() {
+        when(pendingUploadQueries.findPendingUploadsBefore(any(), isNull(), eq(2)))
+                .thenReturn(Flux.just(pending("a"), pending("b")));
+        when(pendingUploadQueries.findPendingUploadsBefore(any(), eq(DocumentCursor.of(pending("b"))), eq(2)))
+                .thenReturn(Flux.just(pending("c")));
+
+        assertThat(reaper.reap().block()).isEqualTo(3);
+
+        verify(documentService).deletePendingUploads(List.of(pending("a"), pending("b")));
+        verify(documentService).deletePendingUploads(List.of(pending("c")));
+        assertThat(count("deleted")).isEqualTo(3);
+    }
+
+    @Test
+    void stopsAfterTheMaximumPagesPerRun() {
+        ReflectionTestUtils.setField(reaper, "maxPagesPerRun", 3);
+        AtomicInteger documents = new AtomicInteger();
+        when(pendingUploadQueries.findPendingUploadsBefore(any(), any(), anyInt()))
+                .thenAnswer(invocation -> Flux.range(0, 2)
+                        .map(index -> pending(String.valueOf(documents.incrementAndGet()))));
+
+        assertThat(reaper.reap().block()).isEqualTo(6);
+
+        verify(documentService, times(3)).deletePendingUploads(anyList());
+    }
+
+    @Test
+    void keepsDocumentsWhoseObjectIsInStorage() {
+        ReflectionTestUtils.setField(reaper, "checkStorage", true);
+        ReflectionTestUtils.setField(reaper, "pageSize", 10);
+        when(pendingUploadQueries.findPendingUploadsBefore(any(), any(), anyInt()))
+                .thenReturn(Flux.just(pending("stored"), pending("missing"), pending("unknown")));
+        when(storageClient.exists(OWNER_ID + "/stored.pdf")).thenReturn(Mono.just(true));
+        when(storageClient.exists(OWNER_ID + "/missing.pdf")).thenReturn(Mono.just(false));
+        when(storageClient.exists(OWNER_ID + "/unknown.pdf"))
+                .thenReturn(Mono.error(new IllegalStateException("503 Service Unavailable")));
+
+        assertThat(reaper.reap().block()).isEqualTo(1);
+
+        verify(documentService).deletePendingUploads(List.of(pending("missing")));
+        assertThat(count("kept")).isEqualTo(1);
+        assertThat(count("unchecked")).isEqualTo(1);
+    }
+
+    @Test
+    void keepsMultipartUploadsResumedWithinTheMaximumAge() {
+        ReflectionTestUtils.setField(reaper, "pageSize", 10);
+        when(pendingUploadQueries.findPendingUploadsBefore(any(), any(), anyInt()))
+                .thenReturn(Flux.just(pending("resumed"), pending("abandoned"), pending("completing")));
+        Instant started = Instant.now().minus(Duration.ofDays(3));
+        multipartUpload("resumed", MultipartUpload.Status.IN_PROGRESS, started, Instant.now().minusSeconds(60));
+        multipartUpload("abandoned", MultipartUpload.Status.IN_PROGRESS, started, started);
+        multipartUpload("completing", MultipartUpload.Status.COMPLETING, started, Instant.now().minusSeconds(60));
+
+        assertThat(reaper.reap().block()).isEqualTo(2);
+
+        verify(documentService).deletePendingUploads(List.of(pending("abandoned"), pending("completing")));
+        assertThat(count("uploading")).isEqualTo(1);
+    }
+
+    @Test
+    void skipsTheRunWhileAnotherInstanceHoldsTheLease() {
+        jobLockStore.tryAcquire(PendingUploadReaper.LOCK_NAME, "other-instance", Duration.ofMinutes(1)).block();
+
+        reaper.reapOnSchedule().block();
+
+        verify(pendingUploadQueries, never()).findPendingUploadsBefore(any(), any(), anyInt());
+    }
+
+    @Test
+    void releasesTheLeaseAfterARun() {
+        when(pendingUploadQueries.findPendingUploadsBefore(any(), any(), anyInt())).thenReturn(Flux.empty());
+
+        reaper.reapOnSchedule().block();
+
+        assertThat(jobLockStore.tryAcquire(PendingUploadReaper.LOCK_NAME, "other-instance", Duration.ofMinutes(1))
+                .block()).isTrue();
+    }
+
+    private void multipartUpload(String id, MultipartUpload.Status status, Instant createdAt, Instant lastActiveAt) {
+        multipartUploadStore.save(new MultipartUpload(id, OWNER_ID, OWNER_ID + "/" + id + ".pdf", "upload-" + id,
+                64, 2, status, createdAt, lastActiveAt)).block();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("aurasage.document.reaper.documents", "result", result).count();
+    }
+
+    private static AsDocument pending(String id) {
+        return AsDocument.builder()
+                .id(id)
+                .ownerId(OWNER_ID)
+                .fileName(id + ".pdf")
+                .status(DocumentStatus.PENDING_UPLOAD)
+                .build();
+    }
+
+}
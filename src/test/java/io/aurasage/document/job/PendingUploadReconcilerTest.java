@@ -0,0 +1,128 @@
+package io.aurasage.document.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.client.StorageClient;
+import io.aurasage.document.client.StoredObject;
+import io.aurasage.document.client.StoredObjectListing;
+import io.aurasage.document.dto.UploadProcessingResult;
+import io.aurasage.document.repository.PendingUploadQueries;
+import io.aurasage.document.repository.impl.InMemoryJobCheckpointStore;
+import io.aurasage.document.repository.impl.InMemoryJobLockStore;
+import io.aurasage.document.service.DocumentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class PendingUploadReconcilerTest {
+
+    private static final String OWNER_ID = "user-1";
+
+    private final PendingUploadQueries pendingUploadQueries = mock(PendingUploadQueries.class);
+    private final DocumentService documentService = mock(DocumentService.class);
+    private final StorageClient storageClient = mock(StorageClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PendingUploadReconciler reconciler = new PendingUploadReconciler(pendingUploadQueries,
+            documentService, storageClient, new InMemoryJobLockStore(), new InMemoryJobCheckpointStore(),
+            meterRegistry);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(reconciler, "minAge", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(reconciler, "pageSize", 10);
+        ReflectionTestUtils.setField(reconciler, "maxPagesPerRun", 1);
+        ReflectionTestUtils.setField(reconciler, "pageInterval", Duration.ZERO);
+        ReflectionTestUtils.setField(reconciler, "listingsPerSecond", 1000);
+        ReflectionTestUtils.setField(reconciler, "listingConcurrency", 1);
+        ReflectionTestUtils.setField(reconciler, "listingPageSize", 2);
+        ReflectionTestUtils.setField(reconciler, "maxListingPagesPerOwner", 2);
+        ReflectionTestUtils.setField(reconciler, "lockLease", Duration.ofMinutes(1));
+        when(pendingUploadQueries.findPendingUploadsBefore(any(), any(), anyInt()))
+                .thenReturn(Flux.just(pending("m"), pending("x")));
+        when(documentService.processStoredObjects(anyList())).thenAnswer(invocation -> Mono.just(
+                UploadProcessingResult.builder().succeeded(invocation.<List<?>>getArgument(0).size()).build()));
+    }
+
+    @Test
+    void startsListingRightBeforeTheFirstPendingKey() {
+        when(storageClient.listObjects(OWNER_ID + "/", OWNER_ID + "/m.pd", 2)).thenReturn(Mono.just(
+                new StoredObjectListing(List.of(stored("m"), stored("x")), null)));
+
+        assertThat(reconciler.reconcile().block()).isEqualTo(2);
+        assertThat(count("truncated")).isZero();
+    }
+
+    @Test
+    void countsListingsCutShortByThePageLimit() {
+        when(storageClient.listObjects(eq(OWNER_ID + "/"), anyString(), eq(2)))
+                .thenReturn(Mono.just(new StoredObjectListing(List.of(stored("m"), stored("n")), OWNER_ID + "/n.pdf")))
+                .thenReturn(Mono.just(new StoredObjectListing(List.of(stored("o"), stored("p")), OWNER_ID + "/p.pdf")));
+
+        assertThat(reconciler.reconcile().block()).isEqualTo(1);
+        assertThat(count("truncated")).isEqualTo(1);
+    }
+
+    @Test
+    void countsFailedListings() {
+        when(storageClient.listObjects(eq(OWNER_ID + "/"), anyString(), eq(2)))
+                .thenReturn(Mono.error(new IllegalStateException("401 Unauthorized")));
+
+        assertThat(reconciler.reconcile().block()).isZero();
+        assertThat(count("failed")).isEqualTo(1);
+        verify(documentService).processStoredObjects(List.of());
+    }
+
+    @Test
+    void spacesEveryListingCallIncludingFollowUpPages() {
+        ReflectionTestUtils.setField(reconciler, "listingsPerSecond", 20);
+        ReflectionTestUtils.setField(reconciler, "maxListingPagesPerOwner", 4);
+        List<Long> calledAt = new CopyOnWriteArrayList<>();
+        when(storageClient.listObjects(eq(OWNER_ID + "/"), anyString(), eq(2)))
+                .thenAnswer(invocation -> Mono.fromSupplier(() -> {
+                    calledAt.add(System.nanoTime());
+                    return new StoredObjectListing(List.of(stored("a"), stored("b")), OWNER_ID + "/b.pdf");
+                }));
+
+        reconciler.reconcile().block();
+
+        // 20 listings per second leave at least one 50ms period between consecutive calls
+        assertThat(calledAt).hasSize(4);
+        assertThat(Duration.ofNanos(calledAt.get(3) - calledAt.get(0))).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("aurasage.document.reconciler.listings", "result", result).count();
+    }
+
+    private static AsDocument pending(String id) {
+        return AsDocument.builder()
+                .id(id)
+                .ownerId(OWNER_ID)
+                .fileName(id + ".pdf")
+                .status(DocumentStatus.PENDING_UPLOAD)
+                .build();
+    }
+
+    private static StoredObject stored(String id) {
+        return new StoredObject(OWNER_ID + "/" + id + ".pdf", "etag", 10L, "application/pdf");
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.aurasage.document.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.core.document.repository.DocumentRepository;
+import io.aurasage.document.repository.DocumentCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class DefaultDocumentOperationsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final DefaultDocumentOperations operations = new DefaultDocumentOperations(documentRepository, 4);
+
+    @Test
+    void pagesNewestFirstAcrossCursor() {
+        when(documentRepository.findAllByOwnerId("user-1")).thenAnswer(invocation -> Flux.just(
+                document("a", BASE.plusMinutes(1)),
+                document("d", BASE.plusMinutes(3)),
+                document("b", BASE.plusMinutes(2)),
+                document("c", BASE.plusMinutes(2)),
+                document("e", BASE)));
+
+        List<AsDocument> firstPage = operations.findPageByOwnerId("user-1", null, 2).collectList().block();
+        assertThat(firstPage).extracting(AsDocument::getId).containsExactly("d", "c");
+
+        DocumentCursor cursor = DocumentCursor.decode(DocumentCursor.of(firstPage.get(1)).encode());
+        List<AsDocument> secondPage = operations.findPageByOwnerId("user-1", cursor, 2).collectList().block();
+        assertThat(secondPage).extracting(AsDocument::getId).containsExactly("b", "a");
+    }
+
+    @Test
+    void pagesUndatedDocumentsLastAcrossCursor() {
+        when(documentRepository.findAllByOwnerId("user-1")).thenAnswer(invocation -> Flux.just(
+                document("b", null),
+                document("a", BASE),
+                document("c", null),
+                document("d", null)));
+
+        List<AsDocument> firstPage = operations.findPageByOwnerId("user-1", null, 2).collectList().block();
+        assertThat(firstPage).extracting(AsDocument::getId).containsExactly("a", "d");
+
+        DocumentCursor cursor = DocumentCursor.decode(DocumentCursor.of(firstPage.get(1)).encode());
+        assertThat(cursor).isEqualTo(new DocumentCursor(null, "d"));
+        List<AsDocument> secondPage = operations.findPageByOwnerId("user-1", cursor, 2).collectList().block();
+        assertThat(secondPage).extracting(AsDocument::getId).containsExactly("c", "b");
+    }
+
+    @Test
+    void completesOnlyDocumentsThatAreStillPending() {
+        AsDocument pending = document("a", BASE);
+        pending.setStatus(DocumentStatus.PENDING_UPLOAD);
+        AsDocument uploaded = document("b", BASE);
+        uploaded.setStatus(DocumentStatus.UPLOADED);
+        uploaded.setFilePath("user-1/b.pdf");
+        when(documentRepository.findById("a")).thenReturn(Mono.just(pending));
+        when(documentRepository.findById("b")).thenReturn(Mono.just(uploaded));
+        when(documentRepository.save(any(AsDocument.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        long completed = operations.completeUploads(List.of(upload("a"), upload("b"))).block();
+
+        assertThat(completed).isEqualTo(1);
+        ArgumentCaptor<AsDocument> saved = ArgumentCaptor.forClass(AsDocument.class);
+        verify(documentRepository).save(saved.capture());
+        assertThat(saved.getValue().getId()).isEqualTo("a");
+        assertThat(saved.getValue().getStatus()).isEqualTo(DocumentStatus.UPLOADED);
+        assertThat(saved.getValue().getFilePath()).isEqualTo("user-1/a.pdf");
+    }
+
+    private static AsDocument upload(String id) {
+        return AsDocument.builder().id(id).filePath("user-1/" + id + ".pdf").status(DocumentStatus.UPLOADED).build();
+    }
+
+    private static AsDocument document(String id, LocalDateTime uploadDate) {
+        return AsDocument.builder().id(id).ownerId("user-1").uploadDate(uploadDate).build();
+    }
+
+}
@@ -0,0 +1,145 @@
+package io.aurasage.document.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.dto.DocumentRequest;
+import io.aurasage.document.dto.DocumentUrlResponse;
+import io.aurasage.document.support.DocumentServiceContext;
+import io.aurasage.document.support.InMemoryEventBus.PublishedEvent;
+import io.aurasage.document.support.StorageEvents;
+import io.aurasage.events.dto.DocumentDeletedEvent;
+
+class DocumentDeduplicationTest {
+
+    private static final String OWNER_ID = "user-1";
+    // ETag of every record built by StorageEvents
+    private static final String FILE_HASH = "d41d8cd98f00b204e9800998ecf8427e";
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private DocumentServiceContext context = new DocumentServiceContext(Map.of(), true);
+
+    @AfterEach
+    void close() {
+        context.close();
+    }
+
+    @Test
+    void linksNewDocumentToStoredCopyBeforeUpload() {
+        save("stored", DocumentStatus.UPLOADED, FILE_HASH, BASE);
+
+        DocumentUrlResponse response = context.documentService()
+                .uploadDocument(request("copy.pdf", "\"" + FILE_HASH.toUpperCase(Locale.ROOT) + "\""), OWNER_ID)
+                .block();
+
+        assertThat(response.getDuplicate()).isTrue();
+        assertThat(response.getPresignedUrl()).isNull();
+        AsDocument linked = find(response.getId());
+        assertThat(linked.getStatus()).isEqualTo(DocumentStatus.UPLOADED);
+        assertThat(linked.getFilePath()).isEqualTo(key("stored"));
+    }
+
+    @Test
+    void requestsUploadUrlWhenNoCopyIsStored() {
+        save("pending", DocumentStatus.PENDING_UPLOAD, FILE_HASH, BASE);
+
+        DocumentUrlResponse response = context.documentService()
+                .uploadDocument(request("new.pdf", FILE_HASH), OWNER_ID)
+                .block();
+
+        assertThat(response.getDuplicate()).isNotEqualTo(Boolean.TRUE);
+        assertThat(response.getPresignedUrl()).isNotNull();
+        assertThat(find(response.getId()).getStatus()).isEqualTo(DocumentStatus.PENDING_UPLOAD);
+    }
+
+    @Test
+    void relinksCompletedUploadToOlderCopyAndDeletesItsObject() {
+        save("stored", DocumentStatus.UPLOADED, FILE_HASH, BASE);
+        save("new", DocumentStatus.PENDING_UPLOAD, null, BASE.plusMinutes(5));
+
+        context.documentService().processDocumentUploadedEvents(List.of(StorageEvents.uploaded(List.of(key("new")))))
+                .block();
+
+        AsDocument completed = find("new");
+        assertThat(completed.getStatus()).isEqualTo(DocumentStatus.UPLOADED);
+        assertThat(completed.getFilePath()).isEqualTo(key("stored"));
+        assertThat(find("stored").getFilePath()).isEqualTo(key("stored"));
+        assertThat(deletedFiles()).containsExactly(key("new"));
+    }
+
+    @Test
+    void linksOnlyTheNewerOfTwoIdenticalUploadsCompletingTogether() {
+        save("older", DocumentStatus.PENDING_UPLOAD, null, BASE);
+        save("newer", DocumentStatus.PENDING_UPLOAD, null, BASE.plusMinutes(1));
+
+        context.documentService().processDocumentUploadedEvents(List.of(
+                StorageEvents.uploaded(List.of(key("older"), key("newer"))))).block();
+
+        assertThat(find("older").getFilePath()).isEqualTo(key("older"));
+        assertThat(find("newer").getFilePath()).isEqualTo(key("older"));
+        assertThat(deletedFiles()).containsExactly(key("newer"));
+    }
+
+    @Test
+    void keepsSeparateCopiesWhenDisabled() {
+        context.close();
+        context = new DocumentServiceContext(Map.of("aurasage.document.deduplication.enabled", "false"), true);
+        save("stored", DocumentStatus.UPLOADED, FILE_HASH, BASE);
+        save("new", DocumentStatus.PENDING_UPLOAD, null, BASE.plusMinutes(5));
+
+        context.documentService().processDocumentUploadedEvents(List.of(StorageEvents.uploaded(List.of(key("new")))))
+                .block();
+
+        assertThat(find("new").getFilePath()).isEqualTo(key("new"));
+        assertThat(deletedFiles()).isEmpty();
+    }
+
+    private void save(String id, DocumentStatus status, String fileHash, LocalDateTime uploadDate) {
+        context.documentRepository().save(AsDocument.builder()
+                .id(id)
+                .fileName(id + ".pdf")
+                .ownerId(OWNER_ID)
+                .filePath(status == DocumentStatus.UPLOADED ? key(id) : null)
+                .fileHash(fileHash)
+                .contentType("application/pdf")
+                .sizeInBytes(2048576L)
+                .uploadDate(uploadDate)
+                .status(status)
+                .build()).block();
+    }
+
+    private AsDocument find(String id) {
+        return context.documentRepository().findById(id).block();
+    }
+
+    private List<String> deletedFiles() {
+        return context.eventBus().events().stream()
+                .map(PublishedEvent::event)
+                .filter(DocumentDeletedEvent.class::isInstance)
+                .map(event -> ((DocumentDeletedEvent) event).filePath())
+                .toList();
+    }
+
+    private static DocumentRequest request(String fileName, String fileHash) {
+        DocumentRequest request = new DocumentRequest();
+        request.setFileName(fileName);
+        request.setSizeInBytes(2048576L);
+        request.setContentType("application/pdf");
+        request.setFileHash(fileHash);
+        return request;
+    }
+
+    private static String key(String id) {
+        return OWNER_ID + "/" + id + ".pdf";
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.aurasage.document.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.repository.DocumentStats;
+import io.aurasage.document.repository.DocumentStatsStore;
+import io.aurasage.document.repository.impl.DefaultDocumentOperations;
+import io.aurasage.document.repository.impl.InMemoryDocumentStatsStore;
+import io.aurasage.document.repository.impl.InMemoryJobLockStore;
+import io.aurasage.document.support.InMemoryDocumentRepository;
+
+class DocumentStatsServiceImplTest {
+
+    private final InMemoryDocumentRepository documentRepository = new InMemoryDocumentRepository();
+    private final InMemoryDocumentStatsStore documentStatsStore = new InMemoryDocumentStatsStore();
+    private final InMemoryJobLockStore jobLockStore = new InMemoryJobLockStore();
+    private final DocumentStatsServiceImpl documentStatsService = new DocumentStatsServiceImpl(documentStatsStore,
+            new DefaultDocumentOperations(documentRepository, 4), jobLockStore);
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(documentStatsService, "reconcileEnabled", true);
+        ReflectionTestUtils.setField(documentStatsService, "reconcileConcurrency", 2);
+        ReflectionTestUtils.setField(documentStatsService, "reconcileLockLease", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void seedsCountersOfExistingOwnersFromTheirDocuments() {
+        save("a", 100);
+        save("b", 200);
+        AsDocument added = save("c", 300);
+
+        // the first increment for an owner without counters must not start them from zero
+        documentStatsService.recordAdded(List.of(added)).block();
+        DocumentStats usage = documentStatsService.getUsage("user-1").block();
+
+        assertThat(usage.documentCount()).isEqualTo(3);
+        assertThat(usage.totalBytes()).isEqualTo(600);
+    }
+
+    @Test
+    void incrementsCountersOnceSeeded() {
+        save("a", 100);
+        documentStatsService.getUsage("user-1").block();
+
+        AsDocument added = save("b", 200);
+        documentStatsService.recordAdded(List.of(added)).block();
+
+        assertThat(documentStatsStore.findByOwnerId("user-1").block().documentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void recomputationDoesNotOverwriteAConcurrentIncrement() {
+        save("a", 100);
+        documentStatsService.getUsage("user-1").block();
+        long version = documentStatsStore.findVersion("user-1").block();
+
+        documentStatsStore.add("user-1", DocumentStats.of(DocumentStatus.UPLOADED, "application/pdf", 50L)).block();
+        boolean replaced = documentStatsStore.replace("user-1", DocumentStats.EMPTY, version).block();
+
+        assertThat(replaced).isFalse();
+        assertThat(documentStatsStore.findByOwnerId("user-1").block().totalBytes()).isEqualTo(150);
+    }
+
+    @Test
+    void reconcileRecomputesKnownOwners() {
+        save("a", 100);
+        documentStatsService.getUsage("user-1").block();
+        save("b", 200);
+
+        assertThat(documentStatsService.reconcile().block()).isEqualTo(1);
+        assertThat(documentStatsStore.findByOwnerId("user-1").block().documentCount()).isEqualTo(2);
+        assertThat(documentStatsStore.findVersion("user-1").block()).isGreaterThan(DocumentStatsStore.NO_VERSION);
+    }
+
+    @Test
+    void scheduledReconciliationSkipsWhileAnotherInstanceHoldsTheLease() {
+        save("a", 100);
+        documentStatsService.getUsage("user-1").block();
+        save("b", 200);
+        jobLockStore.tryAcquire(DocumentStatsServiceImpl.LOCK_NAME, "other-instance", Duration.ofMinutes(1)).block();
+
+        documentStatsService.reconcileOnSchedule().block();
+        assertThat(documentStatsStore.findByOwnerId("user-1").block().documentCount()).isEqualTo(1);
+
+        jobLockStore.release(DocumentStatsServiceImpl.LOCK_NAME, "other-instance").block();
+        documentStatsService.reconcileOnSchedule().block();
+        assertThat(documentStatsStore.findByOwnerId("user-1").block().documentCount()).isEqualTo(2);
+        // released after the run
+        assertThat(jobLockStore.tryAcquire(DocumentStatsServiceImpl.LOCK_NAME, "other-instance",
+                Duration.ofMinutes(1)).block()).isTrue();
+    }
+
+    private AsDocument save(String id, long sizeInBytes) {
+        return documentRepository.save(AsDocument.builder()
+                .id(id)
+                .ownerId("user-1")
+                .contentType("application/pdf")
+                .sizeInBytes(sizeInBytes)
+                .status(DocumentStatus.UPLOADED)
+                .build()).block();
+    }
+
+}
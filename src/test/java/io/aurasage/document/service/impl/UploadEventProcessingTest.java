@@ -0,0 +1,102 @@
+package io.aurasage.document.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.model.enums.DocumentStatus;
+import io.aurasage.document.dto.UploadProcessingResult;
+import io.aurasage.document.support.DocumentServiceContext;
+import io.aurasage.document.support.StorageEvents;
+import io.aurasage.events.dto.DocumentDeletedEvent;
+
+class UploadEventProcessingTest {
+
+    private static final String OWNER_ID = "user-1";
+
+    private final DocumentServiceContext context = new DocumentServiceContext(Map.of(), true);
+
+    @AfterEach
+    void close() {
+        context.close();
+    }
+
+    @Test
+    void appliesEveryRecordOfEveryEvent() {
+        List.of("a", "b", "c", "d", "e").forEach(id -> save(id, DocumentStatus.PENDING_UPLOAD));
+
+        UploadProcessingResult result = context.documentService().processDocumentUploadedEvents(List.of(
+                StorageEvents.uploaded(List.of(key("a"), key("b"), key("c"))),
+                StorageEvents.uploaded(List.of(key("d"), key("e"))))).block();
+
+        assertThat(result.getRecords()).isEqualTo(5);
+        assertThat(result.getSucceeded()).isEqualTo(5);
+        assertThat(result.getFailed()).isZero();
+        List.of("a", "b", "c", "d", "e").forEach(id -> assertThat(status(id)).isEqualTo(DocumentStatus.UPLOADED));
+    }
+
+    @Test
+    void countsRecordsWithoutPendingDocumentAsFailedAndAppliesTheRest() {
+        save("a", DocumentStatus.PENDING_UPLOAD);
+        save("b", DocumentStatus.UPLOADED);
+        save("c", DocumentStatus.PENDING_UPLOAD);
+
+        UploadProcessingResult result = context.documentService().processDocumentUploadedEvents(List.of(
+                StorageEvents.uploaded(List.of(key("a"), key("b"), key("unknown"))),
+                StorageEvents.uploaded(List.of(key("c"))))).block();
+
+        assertThat(result.getRecords()).isEqualTo(4);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(status("a")).isEqualTo(DocumentStatus.UPLOADED);
+        assertThat(status("c")).isEqualTo(DocumentStatus.UPLOADED);
+        assertThat(context.documentRepository().findById("unknown").blockOptional()).isEmpty();
+    }
+
+    @Test
+    void deletesStaleUploadsThatAreStillPendingAlongWithTheirObjects() {
+        save("a", DocumentStatus.PENDING_UPLOAD);
+        save("b", DocumentStatus.UPLOADED);
+
+        assertThat(context.documentService().deletePendingUploads(List.of(document("a"), document("b"))).block())
+                .isEqualTo(1);
+
+        assertThat(context.documentRepository().findById("a").blockOptional()).isEmpty();
+        assertThat(status("b")).isEqualTo(DocumentStatus.UPLOADED);
+        // the object may have reached storage without its event
+        assertThat(context.eventBus().events())
+                .filteredOn(published -> published.event() instanceof DocumentDeletedEvent)
+                .singleElement()
+                .extracting(published -> ((DocumentDeletedEvent) published.event()).filePath())
+                .isEqualTo(key("a"));
+    }
+
+    private void save(String id, DocumentStatus status) {
+        context.documentRepository().save(AsDocument.builder()
+                .id(id)
+                .fileName(id + ".pdf")
+                .ownerId(OWNER_ID)
+                .uploadDate(LocalDateTime.now())
+                .status(status)
+                .build()).block();
+    }
+
+    private AsDocument document(String id) {
+        return context.documentRepository().findById(id).block();
+    }
+
+    private DocumentStatus status(String id) {
+        return context.documentRepository().findById(id).block().getStatus();
+    }
+
+    private static String key(String id) {
+        return OWNER_ID + "/" + id + ".pdf";
+    }
+
+}
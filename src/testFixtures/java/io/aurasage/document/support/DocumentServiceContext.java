@@ -0,0 +1,112 @@
+package io.aurasage.document.support;
+
+import java.util.Map;
+
+import org.mapstruct.factory.Mappers;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.aurasage.core.document.repository.DocumentRepository;
+import io.aurasage.document.admission.UploadAdmissionPolicy;
+import io.aurasage.document.cache.DocumentMetadataCache;
+import io.aurasage.document.cache.DocumentTagIndex;
+import io.aurasage.document.cache.DownloadUrlCache;
+import io.aurasage.document.client.PresignedUrlProvider;
+import io.aurasage.document.client.StorageClient;
+import io.aurasage.document.client.StorageServiceUrlProvider;
+import io.aurasage.document.event.DocumentStatusStream;
+import io.aurasage.document.event.DomainEventOutbox;
+import io.aurasage.document.mapper.DocumentMapper;
+import io.aurasage.document.metrics.DocumentPipelineMetrics;
+import io.aurasage.document.repository.DocumentOperations;
+import io.aurasage.document.repository.DocumentStatsStore;
+import io.aurasage.document.repository.DocumentTagStore;
+import io.aurasage.document.repository.JobLockStore;
+import io.aurasage.document.repository.MultipartUploadStore;
+import io.aurasage.document.repository.impl.DefaultDocumentOperations;
+import io.aurasage.document.repository.impl.InMemoryDocumentStatsStore;
+import io.aurasage.document.repository.impl.InMemoryDocumentTagStore;
+import io.aurasage.document.repository.impl.InMemoryJobLockStore;
+import io.aurasage.document.repository.impl.InMemoryMultipartUploadStore;
+import io.aurasage.document.scheduling.BlockingCalls;
+import io.aurasage.document.service.DocumentService;
+import io.aurasage.document.service.impl.DocumentServiceImpl;
+import io.aurasage.document.service.impl.DocumentStatsServiceImpl;
+import io.aurasage.events.common.EventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Minimal Spring context wiring {@link DocumentServiceImpl} to in-memory stand-ins,
+ * so configuration defaults are resolved exactly as in the application. Shared by tests
+ * and benchmarks.
+ */
+public final class DocumentServiceContext implements AutoCloseable {
+
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    private final InMemoryDocumentRepository documentRepository = new InMemoryDocumentRepository();
+    private final InMemoryEventBus eventBus;
+
+    public DocumentServiceContext(Map<String, Object> properties) {
+        this(properties, false);
+    }
+
+    /**
+     * @param recordEvents whether the event bus keeps published events for inspection
+     */
+    public DocumentServiceContext(Map<String, Object> properties, boolean recordEvents) {
+        this.eventBus = new InMemoryEventBus(recordEvents);
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("document-service", properties));
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+
+        context.registerBean(DocumentRepository.class, () -> documentRepository);
+        context.registerBean(DocumentMapper.class, () -> Mappers.getMapper(DocumentMapper.class));
+        StorageClient storageClient = new InMemoryStorageClient();
+        context.registerBean(StorageClient.class, () -> storageClient);
+        context.registerBean(PresignedUrlProvider.class, () -> new StorageServiceUrlProvider(storageClient));
+        context.registerBean(EventBus.class, () -> eventBus);
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.registerBean(DocumentOperations.class, () -> new DefaultDocumentOperations(documentRepository, 16));
+        context.registerBean(DocumentStatsStore.class, () -> new InMemoryDocumentStatsStore());
+        context.registerBean(JobLockStore.class, () -> new InMemoryJobLockStore());
+        context.registerBean(DocumentStatsServiceImpl.class);
+        context.registerBean(DocumentTagStore.class, () -> new InMemoryDocumentTagStore());
+        context.registerBean(DocumentTagIndex.class);
+        context.registerBean(MultipartUploadStore.class, () -> new InMemoryMultipartUploadStore());
+        context.registerBean(UploadAdmissionPolicy.class);
+        context.registerBean(DocumentPipelineMetrics.class);
+        context.registerBean(BlockingCalls.class);
+        context.registerBean(ObjectMapper.class);
+        context.registerBean(DomainEventOutbox.class);
+        context.registerBean(DownloadUrlCache.class);
+        context.registerBean(DocumentMetadataCache.class);
+        context.registerBean(DocumentStatusStream.class);
+        context.registerBean(DocumentServiceImpl.class);
+        context.refresh();
+    }
+
+    public DocumentService documentService() {
+        return context.getBean(DocumentService.class);
+    }
+
+    public InMemoryDocumentRepository documentRepository() {
+        return documentRepository;
+    }
+
+    public InMemoryEventBus eventBus() {
+        return eventBus;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+}
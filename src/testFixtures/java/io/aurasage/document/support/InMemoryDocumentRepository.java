@@ -0,0 +1,54 @@
+package io.aurasage.document.support;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.aurasage.core.document.model.entity.AsDocument;
+import io.aurasage.core.document.repository.DocumentRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link DocumentRepository} stand-in keeping documents in a concurrent map.
+ */
+public class InMemoryDocumentRepository implements DocumentRepository {
+
+    private final Map<String, AsDocument> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<AsDocument> save(AsDocument document) {
+        return Mono.fromSupplier(() -> {
+            if (document.getId() == null) {
+                document.setId(UUID.randomUUID().toString());
+            }
+            documents.put(document.getId(), document);
+            return document;
+        });
+    }
+
+    @Override
+    public Mono<AsDocument> findById(String id) {
+        return Mono.justOrEmpty(documents.get(id));
+    }
+
+    @Override
+    public Flux<AsDocument> findAllByOwnerId(String ownerId) {
+        return Flux.fromStream(() -> documents.values().stream()
+                .filter(document -> ownerId.equals(document.getOwnerId())));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return Mono.fromRunnable(() -> documents.remove(id));
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public void clear() {
+        documents.clear();
+    }
+
+}
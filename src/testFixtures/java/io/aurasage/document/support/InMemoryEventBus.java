@@ -0,0 +1,45 @@
+package io.aurasage.document.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.aurasage.events.common.EventBus;
+
+/**
+ * {@link EventBus} stand-in that counts published events and optionally records them.
+ */
+public class InMemoryEventBus implements EventBus {
+
+    private final boolean recordEvents;
+    private final AtomicLong published = new AtomicLong();
+    private final List<PublishedEvent> events = new CopyOnWriteArrayList<>();
+
+    public InMemoryEventBus() {
+        this(false);
+    }
+
+    public InMemoryEventBus(boolean recordEvents) {
+        this.recordEvents = recordEvents;
+    }
+
+    @Override
+    public void publish(String routingKey, Object event) {
+        published.incrementAndGet();
+        if (recordEvents) {
+            events.add(new PublishedEvent(routingKey, event));
+        }
+    }
+
+    public long publishedCount() {
+        return published.get();
+    }
+
+    public List<PublishedEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public record PublishedEvent(String routingKey, Object event) {
+    }
+
+}
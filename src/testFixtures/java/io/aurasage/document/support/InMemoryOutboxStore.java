@@ -0,0 +1,52 @@
+package io.aurasage.document.support;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.aurasage.document.repository.OutboxEvent;
+import io.aurasage.document.repository.OutboxStore;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link OutboxStore} stand-in keeping events in a map.
+ */
+public class InMemoryOutboxStore implements OutboxStore {
+
+    private final ConcurrentMap<String, OutboxEvent> events = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> saveAll(List<OutboxEvent> events) {
+        return Mono.fromRunnable(() -> events.forEach(event -> this.events.put(event.id(), event)));
+    }
+
+    @Override
+    public Flux<OutboxEvent> findDue(Instant now, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(events.values().stream()
+                .filter(event -> !event.nextAttemptAt().isAfter(now))
+                .sorted(Comparator.comparing(OutboxEvent::nextAttemptAt))
+                .limit(limit)
+                .toList()));
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Collection<String> ids) {
+        return Mono.fromRunnable(() -> ids.forEach(events::remove));
+    }
+
+    @Override
+    public Mono<Void> reschedule(String id, int attempts, Instant nextAttemptAt) {
+        return Mono.fromRunnable(() -> events.computeIfPresent(id, (key, event) -> new OutboxEvent(event.id(),
+                event.routingKey(), event.payloadType(), event.payload(), event.createdAt(), attempts,
+                nextAttemptAt)));
+    }
+
+    public List<OutboxEvent> events() {
+        return List.copyOf(events.values());
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.aurasage.document.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import io.aurasage.core.storage.model.StorageRequest;
+import io.aurasage.document.client.MultipartUploadCompletion;
+import io.aurasage.document.client.MultipartUploadInit;
+import io.aurasage.document.client.MultipartUploadResume;
+import io.aurasage.document.client.StorageClient;
+import io.aurasage.document.client.StorageMultipartUpload;
+import io.aurasage.document.client.StoredObjectListing;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link StorageClient} stand-in returning synthetic SigV4-style presigned URLs,
+ * optionally after a fixed latency.
+ */
+public class InMemoryStorageClient implements StorageClient {
+
+    private static final DateTimeFormatter AMZ_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final Duration latency;
+
+    public InMemoryStorageClient() {
+        this(Duration.ZERO);
+    }
+
+    public InMemoryStorageClient(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public Mono<String> generateUploadUrl(StorageRequest request) {
+        return respond(presignedUrl("PUT", request.getObjectKey()));
+    }
+
+    @Override
+    public Mono<String> generateDownloadUrl(String objectKey) {
+        return respond(presignedUrl("GET", objectKey));
+    }
+
+    @Override
+    public Mono<Void> deleteFile(String objectKey) {
+        return respond("").then();
+    }
+
+    @Override
+    public Mono<Boolean> exists(String objectKey) {
+        // nothing is ever uploaded to the stand-in
+        return respond("").thenReturn(false);
+    }
+
+    @Override
+    public Mono<StoredObjectListing> listObjects(String prefix, String startAfter, int maxKeys) {
+        return respond("").thenReturn(new StoredObjectListing(List.of(), null));
+    }
+
+    @Override
+    public Mono<StorageMultipartUpload> initiateMultipartUpload(MultipartUploadInit request) {
+        String uploadId = Integer.toHexString(request.objectKey().hashCode());
+        return respond("").thenReturn(new StorageMultipartUpload(uploadId,
+                partUrls(request.objectKey(), uploadId, request.partCount())));
+    }
+
+    @Override
+    public Mono<StorageMultipartUpload> resumeMultipartUpload(MultipartUploadResume request) {
+        return respond("").thenReturn(new StorageMultipartUpload(request.uploadId(),
+                partUrls(request.objectKey(), request.uploadId(), request.partCount())));
+    }
+
+    @Override
+    public Mono<Void> completeMultipartUpload(MultipartUploadCompletion request) {
+        return respond("").then();
+    }
+
+    @Override
+    public Mono<Void> abortMultipartUpload(String objectKey, String uploadId) {
+        return respond("").then();
+    }
+
+    private Mono<String> respond(String value) {
+        return latency.isZero() ? Mono.just(value) : Mono.delay(latency).thenReturn(value);
+    }
+
+    private static List<String> partUrls(String objectKey, String uploadId, int partCount) {
+        return IntStream.rangeClosed(1, partCount)
+                .mapToObj(partNumber -> presignedUrl("PUT", objectKey)
+                        + "&partNumber=" + partNumber + "&uploadId=" + uploadId)
+                .toList();
+    }
+
+    private static String presignedUrl(String method, String objectKey) {
+        return "http://localhost:9000/aurasage/" + objectKey
+                + "?X-Amz-Algorithm=AWS4-HMAC-SHA256"
+                + "&X-Amz-Date=" + AMZ_DATE_FORMAT.format(Instant.now())
+                + "&X-Amz-Expires=900"
+                + "&X-Amz-SignedHeaders=host"
+                + "&X-Amz-Signature=" + Integer.toHexString((method + objectKey).hashCode());
+    }
+
+}
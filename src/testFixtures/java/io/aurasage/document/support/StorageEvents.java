@@ -0,0 +1,55 @@
+package io.aurasage.document.support;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.aurasage.events.dto.StorageEvent;
+
+/**
+ * Builds {@link StorageEvent}s the way they arrive from the broker, by deserializing
+ * S3/MinIO notification JSON.
+ */
+public final class StorageEvents {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private StorageEvents() {
+    }
+
+    /**
+     * Upload notification with one record per object key.
+     */
+    public static StorageEvent uploaded(List<String> objectKeys) {
+        return of("s3:ObjectCreated:Put", objectKeys);
+    }
+
+    /**
+     * Notification of the given S3 event type with one record per object key.
+     */
+    public static StorageEvent of(String eventName, List<String> objectKeys) {
+        String records = objectKeys.stream()
+                .map(key -> """
+                        {"eventName":"%s","eventTime":"2024-01-15T10:30:00.000Z",
+                         "s3":{"object":{"key":"%s","size":2048576,"eTag":"d41d8cd98f00b204e9800998ecf8427e",
+                         "contentType":"application/pdf"}}}""".formatted(eventName, key))
+                .collect(Collectors.joining(","));
+        String json = """
+                {"EventName":"%s","Key":"aurasage/%s","Records":[%s]}"""
+                .formatted(eventName, objectKeys.isEmpty() ? "" : objectKeys.get(0), records);
+        try {
+            return MAPPER.readValue(json, StorageEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid storage event fixture", e);
+        }
+    }
+
+}